@@ -0,0 +1,34 @@
+/*!! Benchmark */
+
+/*!
+Benchmarks
+==========
+
+Runs the benchmarks matching the regular expressions given as arguments (or all benchmarks) together with the
+[GC profiler](https://github.com/openjdk/jmh/blob/master/jmh-core/src/main/java/org/openjdk/jmh/profile/GCProfiler.java),
+which reports the allocation rate and the number of bytes allocated per operation next to the timings.
+
+    java -cp target/benchmarks.jar benchmark.Benchmarks Parser
+*/
+
+/*!- Header */
+package benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public class Benchmarks {
+    public static void main(String[] args) throws RunnerException {
+        OptionsBuilder options = new OptionsBuilder();
+        if (args.length == 0) {
+            options.include(Benchmarks.class.getPackage().getName() + ".*");
+        }
+        for (String pattern : args) {
+            options.include(pattern);
+        }
+        options.addProfiler(GCProfiler.class);
+        new Runner(options.build()).run();
+    }
+}
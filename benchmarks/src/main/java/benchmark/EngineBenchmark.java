@@ -0,0 +1,62 @@
+/*!! Benchmark */
+
+/*!
+EngineBenchmark
+===============
+
+Runs a loop with a large number of iterations on the tree walking `Interpreter`, the virtual machine executing
+`Bytecode` and the `Compiler`. The program is parsed and translated once, so only the execution is measured. The loop
+is the sum of [Sources](${basePath}/benchmarks/src/main/java/benchmark/Sources.java.html) instead of the multiplication
+of `mult.whl`, which the optimizer of the `Interpreter` computes without iterating.
+*/
+
+/*!- Header */
+package benchmark;
+
+import compiler.CompiledProgram;
+import compiler.Compiler;
+import interpreter.Interpreter;
+import org.openjdk.jmh.annotations.*;
+import parser.Parser;
+import program.Program;
+import vm.Bytecode;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+    @Param({"1000000"})
+    public int factor;
+
+    private Program program;
+    private Bytecode bytecode;
+    private CompiledProgram compiled;
+
+    @Setup
+    public void setup() {
+        program = new Parser(Sources.sum(factor)).parse();
+        bytecode = Bytecode.lower(program);
+        compiled = new Compiler().compile(program);
+    }
+
+    @Benchmark
+    public Map<String, Integer> interpreter() {
+        return new Interpreter(program).getValuation();
+    }
+
+    @Benchmark
+    public Map<String, Integer> vm() {
+        return bytecode.run();
+    }
+
+    @Benchmark
+    public Map<String, Integer> compiler() {
+        return compiled.run();
+    }
+}
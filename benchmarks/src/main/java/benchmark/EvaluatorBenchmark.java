@@ -0,0 +1,55 @@
+/*!! Benchmark */
+
+/*!
+EvaluatorBenchmark
+==================
+
+Evaluates deep expressions with a reused `Evaluator`: a left deep one like those created by the parser for long sums
+and a balanced one.
+*/
+
+/*!- Header */
+package benchmark;
+
+import expression.Expression;
+import interpreter.Evaluator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xss64m")
+public class EvaluatorBenchmark {
+    @Param({"100", "10000"})
+    public int size;
+
+    private Expression leftDeep;
+    private Expression balanced;
+    private Evaluator evaluator;
+
+    @Setup
+    public void setup() {
+        leftDeep = Sources.leftDeepExpression(size);
+        balanced = Sources.balancedExpression(size);
+        Map<String, Integer> valuation = new HashMap<String, Integer>();
+        valuation.put("x", 3);
+        valuation.put("y", 5);
+        evaluator = new Evaluator(valuation);
+    }
+
+    @Benchmark
+    public int leftDeep() {
+        return evaluator.eval(leftDeep);
+    }
+
+    @Benchmark
+    public int balanced() {
+        return evaluator.eval(balanced);
+    }
+}
@@ -0,0 +1,59 @@
+/*!! Benchmark */
+
+/*!
+InterpreterBenchmark
+====================
+
+Runs loop heavy programs with the `Interpreter`: a sum with as many iterations as the multiplication of `mult.whl`
+with a large first factor, three nested loops and a Fibonacci loop. The programs are parsed once, so only the
+interpreter is measured. The multiplication itself is not measured, as the optimizer computes it without iterating.
+*/
+
+/*!- Header */
+package benchmark;
+
+import interpreter.Interpreter;
+import org.openjdk.jmh.annotations.*;
+import parser.Parser;
+import program.Program;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterpreterBenchmark {
+    @Param({"1000", "1000000"})
+    public int factor;
+
+    private Program sum;
+    private Program nestedLoops;
+    private Program fibonacci;
+
+    /*! The nested loops run about as many iterations as the sum. */
+    @Setup
+    public void setup() {
+        sum = new Parser(Sources.sum(factor)).parse();
+        nestedLoops = new Parser(Sources.nestedLoops((int) Math.cbrt(2.0 * factor))).parse();
+        fibonacci = new Parser(Sources.fibonacci(factor)).parse();
+    }
+
+    @Benchmark
+    public Map<String, Integer> sum() {
+        return new Interpreter(sum).getValuation();
+    }
+
+    @Benchmark
+    public Map<String, Integer> nestedLoops() {
+        return new Interpreter(nestedLoops).getValuation();
+    }
+
+    @Benchmark
+    public Map<String, Integer> fibonacci() {
+        return new Interpreter(fibonacci).getValuation();
+    }
+}
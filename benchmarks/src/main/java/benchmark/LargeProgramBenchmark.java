@@ -0,0 +1,42 @@
+/*!! Benchmark */
+
+/*!
+LargeProgramBenchmark
+=====================
+
+Parses a generated program with 100000 top level statements. When the `Parser` still chose between the alternatives of
+a statement or an atom by trying one after another and catching the `SyntaxException` of the failed ones, most of the
+time was spent creating these exceptions and filling in their stack traces.
+*/
+
+/*!- Header */
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import parser.Parser;
+import program.Program;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xss64m")
+public class LargeProgramBenchmark {
+    @Param({"100000"})
+    public int statements;
+
+    private String source;
+
+    @Setup
+    public void setup() {
+        source = Sources.statements(statements);
+    }
+
+    @Benchmark
+    public Program parse() {
+        return new Parser(source).parse();
+    }
+}
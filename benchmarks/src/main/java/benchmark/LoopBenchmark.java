@@ -0,0 +1,46 @@
+/*!! Benchmark */
+
+/*!
+LoopBenchmark
+=============
+
+Runs a simple counter loop with a large number of iterations through the `Interpreter`. Before loops were executed
+iteratively this program died with a `StackOverflowError` after a few thousand iterations. Now the run time grows
+linearly with the number of iterations and is independent of the stack size given with `-Xss`. The loop adds its
+counter, so the optimizer cannot compute it without iterating.
+*/
+
+/*!- Header */
+package benchmark;
+
+import interpreter.Interpreter;
+import org.openjdk.jmh.annotations.*;
+import parser.Parser;
+import program.Program;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xss256k")
+public class LoopBenchmark {
+    @Param({"100000000"})
+    public int iterations;
+
+    private Program program;
+
+    /*! The counter loop is parsed once, so only the interpreter is measured. */
+    @Setup
+    public void setup() {
+        program = new Parser("n := " + iterations + " ; i := 0 ; while (n) { i := i + n ; n := n - 1 }").parse();
+    }
+
+    @Benchmark
+    public Map<String, Integer> counterLoop() {
+        return new Interpreter(program).getValuation();
+    }
+}
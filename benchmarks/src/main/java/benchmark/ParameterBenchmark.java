@@ -0,0 +1,68 @@
+/*!! Benchmark */
+
+/*!
+ParameterBenchmark
+==================
+
+Runs `mult.whl` for 1000 different pairs of factors. `reparse` writes the factors into the source code and parses and
+interprets it again for every pair, while `prepared` parses the program once and runs the
+`PreparedProgram` with the factors as initial valuation.
+*/
+
+/*!- Header */
+package benchmark;
+
+import interpreter.Interpreter;
+import interpreter.PreparedProgram;
+import org.openjdk.jmh.annotations.*;
+import parser.Parser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParameterBenchmark {
+    private static final String MULT = "r := 0 ; while (a) { r := r + b ; a := a - 1 }";
+    private static final int INPUTS = 1000;
+
+    private List<Map<String, Integer>> inputs;
+    private PreparedProgram prepared;
+
+    @Setup
+    public void setup() {
+        inputs = new ArrayList<Map<String, Integer>>();
+        for (int i = 0; i < INPUTS; i++) {
+            Map<String, Integer> input = new HashMap<String, Integer>();
+            input.put("a", i % 100);
+            input.put("b", i);
+            inputs.add(input);
+        }
+        prepared = new PreparedProgram(new Parser(MULT).parse());
+    }
+
+    @Benchmark
+    public int reparse() {
+        int sum = 0;
+        for (int i = 0; i < INPUTS; i++) {
+            sum += new Interpreter(new Parser(Sources.mult(i % 100, i)).parse()).getValuation().get("r");
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int prepared() {
+        int sum = 0;
+        for (Map<String, Integer> result : prepared.runAll(inputs)) {
+            sum += result.get("r");
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,41 @@
+/*!! Benchmark */
+
+/*!
+ParserBenchmark
+===============
+
+Parses generated programs from 1 KB to 10 MB. Run it with `-prof gc` to see how much the parser allocates per byte of
+input.
+*/
+
+/*!- Header */
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import parser.Parser;
+import program.Program;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xss64m")
+public class ParserBenchmark {
+    @Param({"1024", "102400", "10485760"})
+    public int bytes;
+
+    private String source;
+
+    @Setup
+    public void setup() {
+        source = Sources.program(bytes);
+    }
+
+    @Benchmark
+    public Program parse() {
+        return new Parser(source).parse();
+    }
+}
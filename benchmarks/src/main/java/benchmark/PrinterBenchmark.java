@@ -0,0 +1,51 @@
+/*!! Benchmark */
+
+/*!
+PrinterBenchmark
+================
+
+Prints the large ASTs of parsed programs with the `ProgramPrinter` and deep expressions with the `ExpressionPrinter`.
+*/
+
+/*!- Header */
+package benchmark;
+
+import expression.Expression;
+import org.openjdk.jmh.annotations.*;
+import parser.Parser;
+import printer.ExpressionPrinter;
+import printer.ProgramPrinter;
+import program.Program;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xss64m")
+public class PrinterBenchmark {
+    @Param({"1024", "1048576"})
+    public int bytes;
+
+    private Program program;
+    private Expression expression;
+
+    /*! The expression has about as many nodes as the program. */
+    @Setup
+    public void setup() {
+        program = new Parser(Sources.program(bytes)).parse();
+        expression = Sources.leftDeepExpression(bytes / 8);
+    }
+
+    @Benchmark
+    public String printProgram() {
+        return new ProgramPrinter().print(program);
+    }
+
+    @Benchmark
+    public String printExpression() {
+        return new ExpressionPrinter().print(expression);
+    }
+}
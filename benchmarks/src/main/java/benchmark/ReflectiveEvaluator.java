@@ -0,0 +1,52 @@
+/*!! Benchmark */
+
+/*!
+ReflectiveEvaluator
+===================
+
+The `Evaluator` as it was implemented with the
+[ReflectiveVisitor](${basePath}/benchmarks/src/main/java/benchmark/ReflectiveVisitor.java.html).
+*/
+
+/*!- Header */
+package benchmark;
+
+import expression.*;
+import interpreter.InterpreterException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class ReflectiveEvaluator extends ReflectiveVisitor<Integer> {
+    private final int value;
+    private final Map<String, Integer> valuation = new HashMap<String, Integer>();
+
+    public ReflectiveEvaluator(Expression expression, Map<String, Integer> valuation) {
+        this.valuation.putAll(valuation);
+        value = visit(expression);
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    public Integer visitAddition(Addition addition) {
+        return visit(addition.leftHandSide) + visit(addition.rightHandSide);
+    }
+
+    public Integer visitSubtraction(Subtraction subtraction) {
+        return visit(subtraction.leftHandSide) - visit(subtraction.rightHandSide);
+    }
+
+    public Integer visitInt(Int integer) {
+        return integer.value;
+    }
+
+    public Integer visitIdentifier(Identifier identifier) {
+        if (valuation.containsKey(identifier.name)) {
+            return valuation.get(identifier.name);
+        } else {
+            throw new InterpreterException("Identifier " + identifier.name + " not found.");
+        }
+    }
+}
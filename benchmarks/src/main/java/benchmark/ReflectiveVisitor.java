@@ -0,0 +1,24 @@
+/*!! Benchmark */
+
+/*!
+ReflectiveVisitor
+=================
+
+The visitor the interpreter and the printers used before `Program` and `Expression` got `accept` methods. It searches
+the `visit` method by the simple name of the class of the visited object and calls it with reflection. It is only kept
+here as baseline for the [VisitorBenchmark](${basePath}/benchmarks/src/main/java/benchmark/VisitorBenchmark.java.html).
+*/
+
+/*!- Header */
+package benchmark;
+
+public abstract class ReflectiveVisitor<T> {
+    @SuppressWarnings("unchecked")
+    public T visit(Object object) {
+        try {
+            return (T) this.getClass().getMethod("visit" + object.getClass().getSimpleName(), object.getClass()).invoke(this, object);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
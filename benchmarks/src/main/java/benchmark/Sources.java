@@ -0,0 +1,96 @@
+/*!! Benchmark */
+
+/*!
+Sources
+=======
+
+Generates the programs used by the benchmarks.
+*/
+
+/*!- Header */
+package benchmark;
+
+import expression.*;
+import program.*;
+
+public final class Sources {
+    private Sources() {
+    }
+
+    /*! The multiplication of `mult.whl` with the given factors. */
+    public static String mult(int a, int b) {
+        return "a := " + a + "; b := " + b + "; r := 0; while (a) { r := r + b ; a := a - 1 }";
+    }
+
+    /*! Sums up the numbers from `n` down to `1` modulo 2^32. The loop has the same shape as the multiplication, but
+    its increment `n` is the counter itself, so the loop is not linear (see
+    [LinearLoop](${basePath}/src/main/java/optimizer/LinearLoop.java.html)) and every iteration is executed. */
+    public static String sum(int n) {
+        return "n := " + n + " ; r := 0 ; while (n) { r := r + n ; n := n - 1 }";
+    }
+
+    /*! Sums up `k` for all `k` up to `i` and all `i` and `j` up to `n` with nested loops, which needs about
+    `n * n * n / 2` iterations of the inner loop. The inner loop adds its counter, so it is not linear either. */
+    public static String nestedLoops(int n) {
+        return "s := 0; i := " + n + "; while (i) { j := " + n + "; while (j) { "
+                + "k := i; while (k) { s := s + k; k := k - 1 }; j := j - 1 }; i := i - 1 }";
+    }
+
+    /*! Computes the `n`-th Fibonacci number modulo 2^32 with a loop that is not linear, so every iteration is
+    executed. All statements of the loop body are superinstructions of the `Resolver`. */
+    public static String fibonacci(int n) {
+        return "n := " + n + " ; i := 0 ; x := 0 ; y := 1 ; "
+                + "while (n) { t := x + y ; x := y + i ; y := t + n ; i := i + 3 ; n := n - 1 }";
+    }
+
+    /*! A program of about the given number of `bytes`, consisting of a sequence of blocks mixing all kinds of
+    statements. Every variable is assigned before it is read, so the program can be run as well. */
+    public static String program(int bytes) {
+        StringBuilder builder = new StringBuilder("x := 1 ; y := 2 ; z := 3");
+        int block = 0;
+        while (builder.length() < bytes) {
+            builder.append(" ;\nx := x + ").append(block % 97)
+                    .append(" ; y := (y - x) + z")
+                    .append(" ;\nif (x - y) then { z := z + 1 } else { z := z - 1 }")
+                    .append(" ;\nc := 3 ; while (c) { c := c - 1 ; y := y + 2 }");
+            block++;
+        }
+        return builder.toString();
+    }
+
+    /*! A program of the given number of top level `statements`, cycling through the same kinds of statements as
+    `program`. */
+    public static String statements(int statements) {
+        StringBuilder builder = new StringBuilder("x := 1");
+        for (int i = 1; i < statements; i++) {
+            builder.append(" ;\n");
+            switch (i % 4) {
+                case 0: builder.append("x := x + ").append(i % 97); break;
+                case 1: builder.append("y := (y - x) + x"); break;
+                case 2: builder.append("if (x - y) then { z := x + 1 } else { z := y - 1 }"); break;
+                default: builder.append("c := 3 ; while (c) { c := c - 1 ; y := y + 2 }"); i++; break;
+            }
+        }
+        return builder.toString();
+    }
+
+    /*! An expression with `size` binary operators nested to the left, as created by the parser for
+    `x + 1 - y + 2 - ...`. */
+    public static Expression leftDeepExpression(int size) {
+        Expression result = new Identifier("x");
+        for (int i = 0; i < size; i++) {
+            Expression atom = i % 2 == 0 ? new Int(i) : new Identifier("y");
+            result = i % 3 == 0 ? new Subtraction(result, atom) : new Addition(result, atom);
+        }
+        return result;
+    }
+
+    /*! A balanced expression with `size` binary operators (rounded up to the next power of two minus one). */
+    public static Expression balancedExpression(int size) {
+        if (size <= 0) {
+            return new Identifier(size % 2 == 0 ? "x" : "y");
+        }
+        int half = (size - 1) / 2;
+        return new Addition(balancedExpression(half), new Subtraction(new Int(size), balancedExpression(half)));
+    }
+}
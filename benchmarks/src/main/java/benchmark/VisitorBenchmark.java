@@ -0,0 +1,58 @@
+/*!! Benchmark */
+
+/*!
+VisitorBenchmark
+================
+
+Compares the double dispatch through `Expression.accept` used by the `Evaluator` with the reflective dispatch of the
+[ReflectiveEvaluator](${basePath}/benchmarks/src/main/java/benchmark/ReflectiveEvaluator.java.html). Both evaluate
+the same expression with `size` additions and subtractions over a small valuation.
+*/
+
+/*!- Header */
+package benchmark;
+
+import expression.*;
+import interpreter.Evaluator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VisitorBenchmark {
+    @Param({"10", "1000"})
+    public int size;
+
+    private Expression expression;
+    private final Map<String, Integer> valuation = new HashMap<String, Integer>();
+
+    /*! Builds `x + 1 - y + 1 - x + ...` with alternating operators, identifiers and literals. */
+    @Setup
+    public void setup() {
+        valuation.put("x", 3);
+        valuation.put("y", 5);
+        Expression result = new Identifier("x");
+        for (int i = 0; i < size; i++) {
+            Expression atom = i % 3 == 0 ? new Identifier("y") : i % 3 == 1 ? new Int(i) : new Identifier("x");
+            result = i % 2 == 0 ? new Addition(result, atom) : new Subtraction(result, atom);
+        }
+        expression = result;
+    }
+
+    @Benchmark
+    public int accept() {
+        return new Evaluator(expression, valuation).getValue();
+    }
+
+    @Benchmark
+    public int reflection() {
+        return new ReflectiveEvaluator(expression, valuation).getValue();
+    }
+}
@@ -1,31 +1,79 @@
+import batch.BatchRunner;
+import binary.BinaryFormatException;
+import binary.BinaryReader;
+import binary.BinaryWriter;
+import compiler.Compiler;
+import compiler.CompilerException;
+import interpreter.IncrementalInterpreter;
 import interpreter.Interpreter;
 import interpreter.InterpreterException;
+import interpreter.NumericInterpreter;
+import interpreter.NumericMode;
+import interpreter.Profiler;
+import optimizer.Optimizer;
 import parser.Parser;
+import parser.SourceMap;
+import parser.StreamingParser;
 import parser.SyntaxException;
 import program.Program;
+import printer.ProfilePrinter;
 import printer.ProgramPrinter;
+import vm.Bytecode;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.Map;
 
 public class Main {
+    private static final String BINARY_EXTENSION = ".whlb";
+
     public static void main(String[] args) {
         if (args.length == 0) {
             System.err.println("No file given");
+        } else if ("--batch".equals(args[0])) {
+            if (args.length == 2) {
+                batch(args[1]);
+            } else {
+                System.err.println("No directory given");
+            }
+        } else if (args.length == 1) {
+            run(args[0]);
+        } else if (args.length == 2 && "--print".equals(args[1])) {
+            print(args[0]);
         } else {
             try {
                 String code = readFile(args[0]);
                 if (args.length == 2) {
-                  if ("--print".equals(args[1])) {
-                    print(code);
+                  if ("--optimize".equals(args[1])) {
+                    optimize(code);
+                  } else if ("--compile".equals(args[1])) {
+                    compile(code);
+                  } else if ("--vm".equals(args[1])) {
+                    runBytecode(code);
+                  } else if ("--profile".equals(args[1])) {
+                    profile(code, false);
+                  } else if ("--profile-json".equals(args[1])) {
+                    profile(code, true);
+                  } else if ("--int64".equals(args[1])) {
+                    numeric(code, NumericMode.INT64);
+                  } else if ("--checked".equals(args[1])) {
+                    numeric(code, NumericMode.CHECKED);
+                  } else if ("--bigint".equals(args[1])) {
+                    numeric(code, NumericMode.BIG_INTEGER);
+                  } else if ("--emit-bin".equals(args[1])) {
+                    emitBinary(code, args[0]);
                   } else {
                     System.err.println("Invalid argument " + args[1]);
                   }
-                } else if (args.length == 1) {
-                  run(code);
                 } else {
                   System.err.println("Too many arguments");
                 }
@@ -40,10 +88,48 @@ public class Main {
         return new String(encoded, StandardCharsets.UTF_8);
     }
 
-    private static void print(String code) {
+    private static void batch(String directory) {
+        try {
+            new BatchRunner().run(BatchRunner.files(Paths.get(directory)), System.out);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void print(String filename) {
+        try {
+            FileChannel channel = FileChannel.open(Paths.get(filename));
+            Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+            try {
+                StreamingParser parser = new StreamingParser(channel);
+                ProgramPrinter printer = new ProgramPrinter();
+                Program statement = parser.next();
+                while (statement != null) {
+                    printer.print(statement, out);
+                    statement = parser.next();
+                    if (statement != null) {
+                        out.write(" ; ");
+                    }
+                }
+            } catch (SyntaxException se) {
+                out.write(System.lineSeparator());
+                out.flush();
+                System.err.println(se);
+                return;
+            } finally {
+                channel.close();
+            }
+            out.write(System.lineSeparator());
+            out.flush();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void optimize(String code) {
         try {
             Parser parser = new Parser(code);
-            Program program = parser.parse();
+            Program program = new Optimizer().optimize(parser.parse());
             ProgramPrinter printer = new ProgramPrinter();
             System.out.println(printer.print(program));
         } catch (SyntaxException se) {
@@ -51,12 +137,116 @@ public class Main {
         }
     }
 
-    private static void run(String code) {
+    private static void run(String filename) {
+        if (filename.endsWith(BINARY_EXTENSION)) {
+            runBinary(filename);
+            return;
+        }
+        try {
+            ReadableByteChannel channel = "-".equals(filename)
+                    ? Channels.newChannel(System.in) : FileChannel.open(Paths.get(filename));
+            StreamingParser parser = new StreamingParser(channel, true);
+            try {
+                IncrementalInterpreter interpreter = new IncrementalInterpreter();
+                Program statement;
+                while ((statement = parser.next()) != null) {
+                    interpreter.execute(statement);
+                }
+                System.out.println(interpreter.getValuation());
+            } catch (SyntaxException se) {
+                System.err.println(se);
+            } catch (InterpreterException ie) {
+                error(ie, parser.getSourceMap());
+            } finally {
+                channel.close();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void emitBinary(String code, String filename) {
+        try {
+            Parser parser = new Parser(code);
+            Program program = parser.parse();
+            String binaryName = filename.replaceFirst("\\.whl$", "") + BINARY_EXTENSION;
+            Files.write(Paths.get(binaryName), new BinaryWriter().write(program));
+        } catch (SyntaxException se) {
+            System.err.println(se);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void runBinary(String filename) {
+        try {
+            Program program = BinaryReader.read(Paths.get(filename));
+            System.out.println(new Interpreter(program).getValuation());
+        } catch (BinaryFormatException be) {
+            System.err.println(be);
+        } catch (InterpreterException ie) {
+            System.err.println(ie);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void error(InterpreterException ie, SourceMap positions) {
+        String location = ie.node == null ? null : positions.location(ie.node);
+        System.err.println(location == null ? ie.toString() : ie + " (" + location + ")");
+    }
+
+    private static void profile(String code, boolean json) {
+        try {
+            Parser parser = new Parser(code, true);
+            Program program = parser.parse();
+            Profiler profiler = new Profiler(program, true);
+            try {
+                System.out.println(profiler.run(Collections.<String, Integer>emptyMap()));
+            } catch (InterpreterException ie) {
+                error(ie, parser.getSourceMap());
+            }
+            ProfilePrinter printer = new ProfilePrinter(profiler, parser.getSourceMap());
+            System.out.print(json ? printer.printJson(program) + "\n" : printer.print(program));
+        } catch (SyntaxException se) {
+            System.err.println(se);
+        }
+    }
+
+    private static void compile(String code) {
+        try {
+            Parser parser = new Parser(code);
+            Program program = parser.parse();
+            Map<String, Integer> valuation = new Compiler().compile(program).run();
+            System.out.println(valuation);
+        } catch (SyntaxException se) {
+            System.err.println(se);
+        } catch (CompilerException ce) {
+            System.err.println(ce);
+        } catch (InterpreterException ie) {
+            System.err.println(ie);
+        }
+    }
+
+    private static void numeric(String code, NumericMode mode) {
+        try {
+            Parser parser = new Parser(code, true);
+            Program program = parser.parse();
+            try {
+                System.out.println(new NumericInterpreter(program, mode).getValuation());
+            } catch (InterpreterException ie) {
+                error(ie, parser.getSourceMap());
+            }
+        } catch (SyntaxException se) {
+            System.err.println(se);
+        }
+    }
+
+    private static void runBytecode(String code) {
         try {
             Parser parser = new Parser(code);
             Program program = parser.parse();
-            Interpreter interpreter = new Interpreter(program);
-            Map<String, Integer> valuation = interpreter.getValuation();
+            Map<String, Integer> valuation = Bytecode.lower(program).run();
             System.out.println(valuation);
         } catch (SyntaxException se) {
             System.err.println(se);
@@ -0,0 +1,182 @@
+/*!! Batch */
+
+/*!
+BatchRunner
+===========
+
+The `BatchRunner` parses and interprets many independent programs in parallel on all cores of the machine:
+
+    BatchRunner runner = new BatchRunner();
+    runner.run(BatchRunner.files(Paths.get("programs")), System.out);
+
+prints one line for every `.whl` file in the directory `programs`, in the order of the file names, e.g.
+
+    mult.whl: {a=0, b=4, r=8}
+    broken.whl: parser.SyntaxException: Integer expected at position 5
+
+A program with a syntax error or a runtime error does not stop the batch. Its line contains the error instead of the
+final valuation.
+*/
+
+/*!- Header */
+package batch;
+
+import cache.ProgramCache;
+import interpreter.Limits;
+import interpreter.PreparedProgram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/*! Every program is read, parsed and interpreted by its own task on a `ForkJoinPool`. The pool has one worker thread
+per core and every worker has its own queue of tasks. Idle workers steal tasks from the queues of busy workers
+(_work stealing_), so all cores stay busy even if some programs run much longer than others.
+
+The tasks only share the [ProgramCache](${basePath}/src/main/java/cache/ProgramCache.java.html), so files with the
+same source code, which are common in generated test suites, are parsed only once. Every task runs its program on a
+`Frame` of its own. The results are collected in the order of the input and printed as soon as all results before
+them are available. */
+public class BatchRunner {
+    private static final int CACHE_CAPACITY = 1024;
+
+    private final int parallelism;
+    private final Limits limits;
+    private final ProgramCache cache = new ProgramCache(CACHE_CAPACITY);
+
+    /*! Creates a runner using all available cores. */
+    public BatchRunner() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchRunner(int parallelism) {
+        this(parallelism, Limits.NONE);
+    }
+
+    /*! Every program is stopped with a `LimitExceededException` if it exceeds the given `limits`, so a program that
+    never terminates does not block its worker forever. */
+    public BatchRunner(int parallelism, Limits limits) {
+        this.parallelism = parallelism;
+        this.limits = limits;
+    }
+
+    /*! The `Result` of one program is either its final `valuation` or the `error` it raised. */
+    public static final class Result {
+        public final String name;
+        public final Map<String, Integer> valuation;
+        public final Throwable error;
+
+        Result(String name, Map<String, Integer> valuation, Throwable error) {
+            this.name = name;
+            this.valuation = valuation;
+            this.error = error;
+        }
+
+        @Override
+        public String toString() {
+            return name + ": " + (error == null ? valuation : error);
+        }
+    }
+
+    /*! All `.whl` files in the given `directory` sorted by their names. */
+    public static List<Path> files(Path directory) throws IOException {
+        List<Path> files = new ArrayList<Path>();
+        DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*.whl");
+        try {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        } finally {
+            stream.close();
+        }
+        Collections.sort(files);
+        return files;
+    }
+
+    /*! Runs all `files` and returns their results in the same order. */
+    public List<Result> run(List<Path> files) {
+        final List<Result> results = new ArrayList<Result>();
+        run(files, new Consumer() {
+            public void accept(Result result) {
+                results.add(result);
+            }
+        });
+        return results;
+    }
+
+    /*! Runs all `files` and prints their results in the same order to `out`. */
+    public void run(List<Path> files, final PrintStream out) {
+        run(files, new Consumer() {
+            public void accept(Result result) {
+                out.println(result);
+            }
+        });
+    }
+
+    private interface Consumer {
+        void accept(Result result);
+    }
+
+    /*! If the calling thread is interrupted while waiting, every program without a result yet gets the
+    `InterruptedException` as its error, so the output still names every file. The interrupt flag is set again
+    afterwards, so the caller can notice the interrupt as well. */
+    private void run(List<Path> files, Consumer consumer) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        int done = 0;
+        try {
+            List<Future<Result>> futures = new ArrayList<Future<Result>>(files.size());
+            for (Path file : files) {
+                futures.add(pool.submit(task(file)));
+            }
+            for (Future<Result> future : futures) {
+                consumer.accept(future.get());
+                done++;
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            for (Path file : files.subList(done, files.size())) {
+                consumer.accept(new Result(file.getFileName().toString(), null, e));
+            }
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /*! Every exception is caught by the task and becomes part of its result, so one broken file never hides the
+    results of the others. The same holds for the `StackOverflowError` raised by a very deeply nested program. All
+    other errors, like an `OutOfMemoryError`, leave the JVM in an unknown state, so they stop the whole batch and are
+    raised by `run`. */
+    private Callable<Result> task(final Path file) {
+        return new Callable<Result>() {
+            public Result call() {
+                String name = file.getFileName().toString();
+                try {
+                    String code = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+                    return new Result(name, new PreparedProgram(cache.parse(code), limits)
+                            .run(Collections.<String, Integer>emptyMap()), null);
+                } catch (Exception e) {
+                    return new Result(name, null, e);
+                } catch (StackOverflowError e) {
+                    return new Result(name, null, e);
+                }
+            }
+        };
+    }
+}
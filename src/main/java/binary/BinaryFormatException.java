@@ -0,0 +1,17 @@
+/*!! Binary */
+
+/*!
+BinaryFormatException
+=====================
+*/
+
+/*!- Header */
+package binary;
+
+/*! The `BinaryFormatException` is raised by the `BinaryReader` if the given data is not a valid program in the
+binary format, e.g. because the file has been truncated. */
+public class BinaryFormatException extends RuntimeException {
+    public BinaryFormatException(String error) {
+        super(error);
+    }
+}
@@ -0,0 +1,220 @@
+/*!! Binary */
+
+/*!
+BinaryReader
+============
+
+The `BinaryReader` loads a `Program` written by the [BinaryWriter](${basePath}/src/main/java/binary/BinaryWriter.java.html).
+There is no lexing and no parsing involved: the reader runs once over the bytes and creates every node with the
+children it has already created.
+
+Files are mapped into memory with a `FileChannel`, so the operating system reads them directly into the buffer
+without copying them through a stream:
+
+    Program program = BinaryReader.read(Paths.get("mult.whlb"));
+*/
+
+/*!- Header */
+package binary;
+
+import expression.*;
+import program.*;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/*! Every identifier of the table is created only once and shared by all nodes referring to it. As the nodes are
+stored in postfix order, the children of a node are the topmost elements of the `stack` when the node is read. They
+are replaced by the node itself. After the last node the stack must contain exactly the whole program. Nodes of the
+wrong kind on the stack, like an expression where a program is expected, are reported as `BinaryFormatException`
+just like unknown kinds and missing bytes. */
+public final class BinaryReader {
+    private final ByteBuffer buffer;
+    private Identifier[] identifiers;
+    private Object[] stack = new Object[64];
+    private int size;
+
+    private BinaryReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public static Program read(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } finally {
+            channel.close();
+        }
+    }
+
+    public static Program read(ByteBuffer buffer) {
+        try {
+            return new BinaryReader(buffer).read();
+        } catch (BufferUnderflowException e) {
+            throw new BinaryFormatException("Unexpected end of data");
+        }
+    }
+
+    private Program read() {
+        for (byte b : BinaryWriter.MAGIC) {
+            if (buffer.get() != b) {
+                throw new BinaryFormatException("Not a binary while program");
+            }
+        }
+        int version = buffer.get();
+        if (version != BinaryWriter.VERSION) {
+            throw new BinaryFormatException("Unsupported version " + version);
+        }
+        identifiers = new Identifier[readCount(buffer.remaining())];
+        for (int i = 0; i < identifiers.length; i++) {
+            byte[] utf8 = new byte[readCount(buffer.remaining())];
+            buffer.get(utf8);
+            identifiers[i] = new Identifier(new String(utf8, StandardCharsets.UTF_8));
+        }
+        while (buffer.hasRemaining()) {
+            readNode();
+        }
+        if (size != 1) {
+            throw new BinaryFormatException("Expected one program but found " + size + " nodes");
+        }
+        return program();
+    }
+
+    private void readNode() {
+        int kind = buffer.get();
+        switch (kind) {
+            case BinaryWriter.ASSIGNMENT: {
+                Expression expression = expression();
+                push(new Assignment(identifier(), expression));
+                break;
+            }
+            case BinaryWriter.BLOCK: {
+                Program[] statements = new Program[readCount(size)];
+                for (int i = statements.length - 1; i >= 0; i--) {
+                    statements[i] = program();
+                }
+                push(new Block(statements));
+                break;
+            }
+            case BinaryWriter.COMPOSITION: {
+                Program second = program();
+                push(new Composition(program(), second));
+                break;
+            }
+            case BinaryWriter.CONDITIONAL: {
+                Program elseCase = program();
+                Program thenCase = program();
+                push(new Conditional(expression(), thenCase, elseCase));
+                break;
+            }
+            case BinaryWriter.LOOP: {
+                Program program = program();
+                push(new Loop(expression(), program));
+                break;
+            }
+            case BinaryWriter.ADDITION: {
+                Expression rightHandSide = expression();
+                push(new Addition(expression(), rightHandSide));
+                break;
+            }
+            case BinaryWriter.IDENTIFIER:
+                push(identifier());
+                break;
+            case BinaryWriter.INT: {
+                int value = readVarint();
+                push(new Int((value >>> 1) ^ -(value & 1)));
+                break;
+            }
+            case BinaryWriter.BIG_INT: {
+                byte[] value = new byte[readCount(buffer.remaining())];
+                if (value.length == 0) {
+                    throw new BinaryFormatException("Empty integer");
+                }
+                buffer.get(value);
+                push(new Int(new BigInteger(value)));
+                break;
+            }
+            case BinaryWriter.SUBTRACTION: {
+                Expression rightHandSide = expression();
+                push(new Subtraction(expression(), rightHandSide));
+                break;
+            }
+            default:
+                throw new BinaryFormatException("Unknown node kind " + kind);
+        }
+    }
+
+    private int readVarint() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = buffer.get();
+            value |= (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new BinaryFormatException("Varint too long");
+    }
+
+    /*! Counts and lengths can never be negative. Checking them against the `maximum` possible value prevents
+    allocating huge arrays for broken data. */
+    private int readCount(int maximum) {
+        int count = readVarint();
+        if (count < 0 || count > maximum) {
+            throw new BinaryFormatException("Invalid count " + count);
+        }
+        return count;
+    }
+
+    private Identifier identifier() {
+        int index = readVarint();
+        if (index < 0 || index >= identifiers.length) {
+            throw new BinaryFormatException("Invalid identifier " + index);
+        }
+        return identifiers[index];
+    }
+
+    /*!
+    The Stack
+    ---------
+    */
+    private void push(Object node) {
+        if (size == stack.length) {
+            Object[] larger = new Object[size * 2];
+            System.arraycopy(stack, 0, larger, 0, size);
+            stack = larger;
+        }
+        stack[size++] = node;
+    }
+
+    private Object pop() {
+        if (size == 0) {
+            throw new BinaryFormatException("Missing node");
+        }
+        Object node = stack[--size];
+        stack[size] = null;
+        return node;
+    }
+
+    private Program program() {
+        Object node = pop();
+        if (!(node instanceof Program)) {
+            throw new BinaryFormatException("Program expected");
+        }
+        return (Program) node;
+    }
+
+    private Expression expression() {
+        Object node = pop();
+        if (!(node instanceof Expression)) {
+            throw new BinaryFormatException("Expression expected");
+        }
+        return (Expression) node;
+    }
+}
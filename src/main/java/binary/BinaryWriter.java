@@ -0,0 +1,256 @@
+/*!! Binary */
+
+/*!
+BinaryWriter
+============
+
+The `BinaryWriter` stores a `Program` in a compact binary format, which the
+[BinaryReader](${basePath}/src/main/java/binary/BinaryReader.java.html) loads again much faster than the source code
+can be parsed:
+
+    byte[] bytes = new BinaryWriter().write(program);
+    Program loaded = BinaryReader.read(ByteBuffer.wrap(bytes));
+
+The format consists of
+
+- the four bytes `WHLB` followed by the version `1`,
+- the table of all identifiers: their number followed by the length and the UTF-8 bytes of every name and
+- the nodes of the program in _postfix order_: every node is a byte telling its kind, followed by its operands.
+
+The children of a node come before the node itself. The reader can therefore build the tree with a stack instead of
+recursion. As the writer uses an explicit stack as well, the format has no trouble with very deep expressions.
+Identifiers refer to their index in the table, so every name is stored only once. All numbers are stored as _varints_
+using 7 bits per byte, so small numbers need a single byte.
+*/
+
+/*!- Header */
+package binary;
+
+import expression.*;
+import program.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*! The `BinaryWriter` is implemented as visitor of both programs and expressions. Just like the
+[ProgramPrinter](${basePath}/src/main/java/printer/ProgramPrinter.java.html) it keeps an explicit `stack` of the nodes
+still to write instead of recursing into the children, so the depth of a program is not limited by the size of the
+Java stack. A node with children is visited twice. The first visit pushes the node again, marked as `finished`, and
+its children above it, so the children are written first. The second visit, when `finished` is set, writes the kind
+of the node. The identifiers are numbered in the order of their first appearance while the nodes are written. */
+public class BinaryWriter implements ProgramVisitor<Void>, ExpressionVisitor<Void> {
+    static final byte[] MAGIC = {'W', 'H', 'L', 'B'};
+    static final int VERSION = 1;
+
+    /*! The kinds of the nodes. `BLOCK` is followed by the number of statements, `ASSIGNMENT` and `IDENTIFIER` by the
+    index of the identifier and `INT` by the value. Integer literals outside the range of `int` are stored as
+    `BIG_INT` followed by the length and the bytes of their two's complement representation. */
+    static final int ASSIGNMENT = 0;
+    static final int BLOCK = 1;
+    static final int COMPOSITION = 2;
+    static final int CONDITIONAL = 3;
+    static final int LOOP = 4;
+    static final int ADDITION = 5;
+    static final int IDENTIFIER = 6;
+    static final int INT = 7;
+    static final int SUBTRACTION = 8;
+    static final int BIG_INT = 9;
+
+    private final Map<String, Integer> indices = new HashMap<String, Integer>();
+    private final List<String> names = new ArrayList<String>();
+    private byte[] bytes;
+    private int length;
+    private Object[] stack = new Object[16];
+    private boolean[] marks = new boolean[16];
+    private int size;
+    private boolean finished;
+
+    private void push(Object node, boolean finished) {
+        if (size == stack.length) {
+            Object[] larger = new Object[size * 2];
+            System.arraycopy(stack, 0, larger, 0, size);
+            stack = larger;
+            boolean[] largerMarks = new boolean[size * 2];
+            System.arraycopy(marks, 0, largerMarks, 0, size);
+            marks = largerMarks;
+        }
+        stack[size] = node;
+        marks[size++] = finished;
+    }
+
+    /*! Pushes the given `node` marked as `finished` followed by its `children`, the first child on top. */
+    private void expand(Object node, Object... children) {
+        push(node, true);
+        for (int i = children.length - 1; i >= 0; i--) {
+            push(children[i], false);
+        }
+    }
+
+    public byte[] write(Program program) {
+        indices.clear();
+        names.clear();
+        bytes = new byte[256];
+        length = 0;
+        size = 0;
+        push(program, false);
+        while (size > 0) {
+            Object node = stack[--size];
+            stack[size] = null;
+            finished = marks[size];
+            if (node instanceof Program) {
+                ((Program) node).accept(this);
+            } else {
+                ((Expression) node).accept(this);
+            }
+        }
+        byte[] nodes = bytes;
+        int nodesLength = length;
+
+        bytes = new byte[nodesLength + 64];
+        length = 0;
+        for (byte b : MAGIC) {
+            write(b);
+        }
+        write(VERSION);
+        writeVarint(names.size());
+        for (String name : names) {
+            byte[] utf8 = name.getBytes(StandardCharsets.UTF_8);
+            writeVarint(utf8.length);
+            for (byte b : utf8) {
+                write(b);
+            }
+        }
+        byte[] result = new byte[length + nodesLength];
+        System.arraycopy(bytes, 0, result, 0, length);
+        System.arraycopy(nodes, 0, result, length, nodesLength);
+        return result;
+    }
+
+    private void write(int value) {
+        if (length == bytes.length) {
+            byte[] larger = new byte[bytes.length * 2];
+            System.arraycopy(bytes, 0, larger, 0, length);
+            bytes = larger;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    /*! A varint stores 7 bits of the value in every byte, starting with the lowest bits. The highest bit of a byte
+    is set if more bytes follow. */
+    private void writeVarint(int value) {
+        while ((value & ~0x7f) != 0) {
+            write((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        write(value);
+    }
+
+    private void writeIdentifier(String name) {
+        Integer index = indices.get(name);
+        if (index == null) {
+            index = names.size();
+            indices.put(name, index);
+            names.add(name);
+        }
+        writeVarint(index);
+    }
+
+    /*!
+    Programs
+    --------
+    */
+    public Void visitAssignment(Assignment assignment) {
+        if (!finished) {
+            expand(assignment, assignment.expression);
+            return null;
+        }
+        write(ASSIGNMENT);
+        writeIdentifier(assignment.identifier.name);
+        return null;
+    }
+
+    public Void visitBlock(Block block) {
+        if (!finished) {
+            expand(block, (Object[]) block.statements);
+            return null;
+        }
+        write(BLOCK);
+        writeVarint(block.statements.length);
+        return null;
+    }
+
+    public Void visitComposition(Composition composition) {
+        if (!finished) {
+            expand(composition, composition.first, composition.second);
+            return null;
+        }
+        write(COMPOSITION);
+        return null;
+    }
+
+    public Void visitConditional(Conditional conditional) {
+        if (!finished) {
+            expand(conditional, conditional.condition, conditional.thenCase, conditional.elseCase);
+            return null;
+        }
+        write(CONDITIONAL);
+        return null;
+    }
+
+    public Void visitLoop(Loop loop) {
+        if (!finished) {
+            expand(loop, loop.condition, loop.program);
+            return null;
+        }
+        write(LOOP);
+        return null;
+    }
+
+    /*!
+    Expressions
+    -----------
+    */
+    public Void visitAddition(Addition addition) {
+        if (!finished) {
+            expand(addition, addition.leftHandSide, addition.rightHandSide);
+            return null;
+        }
+        write(ADDITION);
+        return null;
+    }
+
+    public Void visitIdentifier(Identifier identifier) {
+        write(IDENTIFIER);
+        writeIdentifier(identifier.name);
+        return null;
+    }
+
+    /*! Negative values are stored in _zig-zag encoding_, which maps `0, -1, 1, -2, 2, ...` to `0, 1, 2, 3, 4, ...`,
+    so small negative values need a single byte as well. */
+    public Void visitInt(Int integer) {
+        if (!integer.isInt()) {
+            byte[] value = integer.bigValue().toByteArray();
+            write(BIG_INT);
+            writeVarint(value.length);
+            for (byte b : value) {
+                write(b);
+            }
+            return null;
+        }
+        write(INT);
+        writeVarint((integer.value << 1) ^ (integer.value >> 31));
+        return null;
+    }
+
+    public Void visitSubtraction(Subtraction subtraction) {
+        if (!finished) {
+            expand(subtraction, subtraction.leftHandSide, subtraction.rightHandSide);
+            return null;
+        }
+        write(SUBTRACTION);
+        return null;
+    }
+}
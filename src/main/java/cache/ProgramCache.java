@@ -0,0 +1,181 @@
+/*!! Cache */
+
+/*!
+ProgramCache
+============
+
+Running the same source code many times should not parse it again and again. The `ProgramCache` remembers the
+`Program` parsed from a source code, and on request the optimized `Program` and the `CompiledProgram` as well.
+
+    ProgramCache cache = new ProgramCache(1000);
+    Program program = cache.parse(code);
+    Map<String, Integer> valuation = cache.compile(code).run();
+*/
+
+/*!- Header */
+package cache;
+
+import compiler.CompiledProgram;
+import compiler.Compiler;
+import optimizer.Optimizer;
+import parser.Parser;
+import parser.SyntaxException;
+import program.Program;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*! The cache does not keep the source code itself, which might be large, but only its
+[SHA-256](https://en.wikipedia.org/wiki/SHA-2) hash. Two different source codes with the same hash are practically
+impossible.
+
+The cache holds at most `capacity` entries. If it is full, the entry that has not been used for the longest time is
+removed (_least recently used_). A `LinkedHashMap` in access order keeps the entries ordered by their last use and
+removes the eldest one for us.
+
+One cache can be shared by several threads. The lock of the cache only guards the map itself and is never held
+while a program is parsed, optimized or compiled. Every `CachedProgram` computes its programs under its own lock, so
+only callers asking for the same source code wait for each other, while all other callers go on. */
+public class ProgramCache {
+    private final Map<Hash, CachedProgram> entries;
+    private long hits;
+    private long misses;
+
+    public ProgramCache(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        entries = new LinkedHashMap<Hash, CachedProgram>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Hash, CachedProgram> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /*! The parsed `Program`. Raises a `SyntaxException` if the source code cannot be parsed. Source code with syntax
+    errors is not cached. */
+    public Program parse(String source) {
+        return entry(source).program();
+    }
+
+    /*! The `Program` simplified by the [Optimizer](${basePath}/src/main/java/optimizer/Optimizer.java.html). */
+    public Program optimize(String source) {
+        return entry(source).optimized();
+    }
+
+    /*! The program compiled by the [Compiler](${basePath}/src/main/java/compiler/Compiler.java.html). Raises a
+    `CompilerException` if the program is too large to be compiled. */
+    public CompiledProgram compile(String source) {
+        return entry(source).compiled();
+    }
+
+    /*! The source code is hashed before the lock is taken. */
+    private CachedProgram entry(String source) {
+        Hash hash = new Hash(source);
+        synchronized (this) {
+            CachedProgram entry = entries.get(hash);
+            if (entry == null) {
+                misses++;
+                entry = new CachedProgram(hash, source);
+                entries.put(hash, entry);
+            } else {
+                hits++;
+            }
+            return entry;
+        }
+    }
+
+    private synchronized void remove(CachedProgram entry) {
+        if (entries.get(entry.hash) == entry) {
+            entries.remove(entry.hash);
+        }
+    }
+
+    /*! The number of requests answered from the cache. */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /*! The number of requests that needed to parse the source code. */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /*! A `CachedProgram` keeps the `source` only until it has been parsed. If parsing fails, the entry removes itself
+    from the cache. */
+    private final class CachedProgram {
+        final Hash hash;
+        private String source;
+        private Program program;
+        private Program optimized;
+        private CompiledProgram compiled;
+
+        CachedProgram(Hash hash, String source) {
+            this.hash = hash;
+            this.source = source;
+        }
+
+        synchronized Program program() {
+            if (program == null) {
+                try {
+                    program = new Parser(source).parse();
+                } catch (SyntaxException e) {
+                    remove(this);
+                    throw e;
+                }
+                source = null;
+            }
+            return program;
+        }
+
+        synchronized Program optimized() {
+            if (optimized == null) {
+                optimized = new Optimizer().optimize(program());
+            }
+            return optimized;
+        }
+
+        synchronized CompiledProgram compiled() {
+            if (compiled == null) {
+                compiled = new Compiler().compile(program());
+            }
+            return compiled;
+        }
+    }
+
+    /*! The hash of a source code, usable as key of a `HashMap`. */
+    private static final class Hash {
+        private final byte[] digest;
+
+        Hash(String source) {
+            try {
+                digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Hash && Arrays.equals(digest, ((Hash) o).digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(digest);
+        }
+    }
+}
@@ -0,0 +1,344 @@
+/*!! Compiler */
+
+/*!
+ClassFile
+=========
+
+A minimal writer for [Java class files](https://docs.oracle.com/javase/specs/jvms/se8/html/jvms-4.html). It supports
+exactly what the [CodeGenerator](${basePath}/src/main/java/compiler/CodeGenerator.java.html) needs: a public class with
+a default constructor that implements one interface and contains one more method.
+*/
+
+/*!- Header */
+package compiler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*! The class files are written in version 49 (Java 5). Since Java 7 class files must contain _stack map frames_
+describing the types on the operand stack at every branch target. Older class files are verified by inferring these
+types, so we do not need to compute the frames ourselves. */
+final class ClassFile {
+    /*! The opcodes we use, see the [instruction set](https://docs.oracle.com/javase/specs/jvms/se8/html/jvms-6.html). */
+    static final int ICONST_0 = 0x03;
+    static final int BIPUSH = 0x10;
+    static final int SIPUSH = 0x11;
+    static final int LDC_W = 0x13;
+    static final int ILOAD = 0x15;
+    static final int ALOAD = 0x19;
+    static final int IALOAD = 0x2e;
+    static final int BALOAD = 0x33;
+    static final int ISTORE = 0x36;
+    static final int IASTORE = 0x4f;
+    static final int BASTORE = 0x54;
+    static final int DUP = 0x59;
+    static final int IADD = 0x60;
+    static final int ISUB = 0x64;
+    static final int IFEQ = 0x99;
+    static final int IFNE = 0x9a;
+    static final int GOTO = 0xa7;
+    static final int IRETURN = 0xac;
+    static final int RETURN = 0xb1;
+    static final int INVOKEVIRTUAL = 0xb6;
+    static final int INVOKESPECIAL = 0xb7;
+    static final int NEW = 0xbb;
+    static final int ATHROW = 0xbf;
+    static final int WIDE = 0xc4;
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    /*! Class files and methods are limited to 65535 entries and bytes at several places. */
+    static final int LIMIT = 0xffff;
+
+    private final ByteArrayOutputStream constants = new ByteArrayOutputStream();
+    private final DataOutputStream constantPool = new DataOutputStream(constants);
+    private final Map<String, Integer> constantIndices = new HashMap<String, Integer>();
+    private int constantCount = 1;
+
+    private final String name;
+    private final String superName;
+    private final String interfaceName;
+    private final List<byte[]> methods = new ArrayList<byte[]>();
+
+    ClassFile(String name, String superName, String interfaceName) {
+        this.name = name;
+        this.superName = superName;
+        this.interfaceName = interfaceName;
+    }
+
+    /*!
+    Constant Pool
+    -------------
+
+    All names, strings and large numbers are stored in the constant pool of the class and referenced by their index.
+    Every constant is added only once: `constant` looks up the given key and only writes a new entry if the key is
+    new.
+    */
+    private interface Entry {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private int constant(String key, Entry entry) {
+        Integer index = constantIndices.get(key);
+        if (index == null) {
+            try {
+                entry.write(constantPool);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            index = constantCount++;
+            if (index >= LIMIT) {
+                throw new CompilerException("Too many constants");
+            }
+            constantIndices.put(key, index);
+        }
+        return index;
+    }
+
+    int utf8(final String value) {
+        return constant("Utf8 " + value, new Entry() {
+            public void write(DataOutputStream out) throws IOException {
+                out.writeByte(1);
+                out.writeUTF(value);
+            }
+        });
+    }
+
+    int integer(final int value) {
+        return constant("Integer " + value, new Entry() {
+            public void write(DataOutputStream out) throws IOException {
+                out.writeByte(3);
+                out.writeInt(value);
+            }
+        });
+    }
+
+    int classReference(String className) {
+        final int nameIndex = utf8(className);
+        return constant("Class " + className, new Entry() {
+            public void write(DataOutputStream out) throws IOException {
+                out.writeByte(7);
+                out.writeShort(nameIndex);
+            }
+        });
+    }
+
+    int string(String value) {
+        final int valueIndex = utf8(value);
+        return constant("String " + value, new Entry() {
+            public void write(DataOutputStream out) throws IOException {
+                out.writeByte(8);
+                out.writeShort(valueIndex);
+            }
+        });
+    }
+
+    int methodReference(String owner, String methodName, String descriptor) {
+        final int ownerIndex = classReference(owner);
+        final int nameIndex = utf8(methodName);
+        final int descriptorIndex = utf8(descriptor);
+        final int nameAndTypeIndex = constant("NameAndType " + methodName + " " + descriptor, new Entry() {
+            public void write(DataOutputStream out) throws IOException {
+                out.writeByte(12);
+                out.writeShort(nameIndex);
+                out.writeShort(descriptorIndex);
+            }
+        });
+        return constant("Methodref " + owner + " " + methodName + " " + descriptor, new Entry() {
+            public void write(DataOutputStream out) throws IOException {
+                out.writeByte(10);
+                out.writeShort(ownerIndex);
+                out.writeShort(nameAndTypeIndex);
+            }
+        });
+    }
+
+    /*!
+    Code
+    ----
+
+    `Code` collects the instructions of one method. It keeps track of the current depth of the operand stack in
+    order to compute the maximal depth the JVM needs to know. Forward jumps are written with a placeholder offset and
+    fixed once the `Label` they jump to is placed.
+    */
+    static final class Label {
+        private int position = -1;
+        private final List<Integer> jumps = new ArrayList<Integer>();
+    }
+
+    static final class Code {
+        private byte[] bytes = new byte[256];
+        private int length;
+        private int stack;
+        private int maxStack;
+
+        private void write(int value) {
+            if (length == bytes.length) {
+                byte[] larger = new byte[bytes.length * 2];
+                System.arraycopy(bytes, 0, larger, 0, length);
+                bytes = larger;
+            }
+            bytes[length++] = (byte) value;
+        }
+
+        private void writeShort(int value) {
+            write(value >> 8);
+            write(value);
+        }
+
+        private void stack(int change) {
+            stack += change;
+            maxStack = Math.max(maxStack, stack);
+        }
+
+        /*! An instruction without operands changing the stack depth by `stackChange`. */
+        void op(int opcode, int stackChange) {
+            write(opcode);
+            stack(stackChange);
+        }
+
+        /*! An instruction with a two byte index into the constant pool. */
+        void op(int opcode, int index, int stackChange) {
+            write(opcode);
+            writeShort(index);
+            stack(stackChange);
+        }
+
+        /*! Pushes the integer `value` using the shortest possible instruction. */
+        void push(ClassFile classFile, int value) {
+            if (value >= -1 && value <= 5) {
+                op(ICONST_0 + value, 1);
+            } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                write(BIPUSH);
+                write(value);
+                stack(1);
+            } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                write(SIPUSH);
+                writeShort(value);
+                stack(1);
+            } else {
+                op(LDC_W, classFile.integer(value), 1);
+            }
+        }
+
+        /*! Loads or stores a local variable. Indices above 255 need the `wide` prefix. */
+        void local(int opcode, int index, int stackChange) {
+            if (index > 0xff) {
+                write(WIDE);
+                write(opcode);
+                writeShort(index);
+            } else {
+                write(opcode);
+                write(index);
+            }
+            stack(stackChange);
+        }
+
+        void jump(int opcode, Label label, int stackChange) {
+            int position = length;
+            write(opcode);
+            writeShort(0);
+            stack(stackChange);
+            if (label.position >= 0) {
+                patch(position, label.position);
+            } else {
+                label.jumps.add(position);
+            }
+        }
+
+        void place(Label label) {
+            label.position = length;
+            for (int jump : label.jumps) {
+                patch(jump, label.position);
+            }
+            label.jumps.clear();
+        }
+
+        /*! Jump offsets are relative to the jump instruction and limited to 16 bits. */
+        private void patch(int jump, int target) {
+            int offset = target - jump;
+            if (offset < Short.MIN_VALUE || offset > Short.MAX_VALUE) {
+                throw new CompilerException("Program too large: jump over " + offset + " bytes");
+            }
+            bytes[jump + 1] = (byte) (offset >> 8);
+            bytes[jump + 2] = (byte) offset;
+        }
+
+        /*! Appends the already finished `code` to this one. As all jumps are relative, they stay valid. */
+        void append(Code code) {
+            for (int i = 0; i < code.length; i++) {
+                write(code.bytes[i]);
+            }
+            maxStack = Math.max(maxStack, stack + code.maxStack);
+        }
+
+    }
+
+    /*!
+    Methods and the Class
+    ---------------------
+    */
+    void method(String methodName, String descriptor, Code code, int maxLocals) {
+        if (code.length > LIMIT) {
+            throw new CompilerException("Program too large: " + code.length + " bytes of code");
+        }
+        if (maxLocals > LIMIT) {
+            throw new CompilerException("Program too large: " + maxLocals + " local variables");
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeShort(ACC_PUBLIC);
+            out.writeShort(utf8(methodName));
+            out.writeShort(utf8(descriptor));
+            out.writeShort(1);
+            out.writeShort(utf8("Code"));
+            out.writeInt(12 + code.length);
+            out.writeShort(code.maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(code.length);
+            out.write(code.bytes, 0, code.length);
+            out.writeShort(0);
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        methods.add(bytes.toByteArray());
+    }
+
+    byte[] toByteArray() {
+        int thisIndex = classReference(name);
+        int superIndex = classReference(superName);
+        int interfaceIndex = classReference(interfaceName);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(0xcafebabe);
+            out.writeShort(0);
+            out.writeShort(49);
+            out.writeShort(constantCount);
+            constants.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisIndex);
+            out.writeShort(superIndex);
+            out.writeShort(1);
+            out.writeShort(interfaceIndex);
+            out.writeShort(0);
+            out.writeShort(methods.size());
+            for (byte[] method : methods) {
+                out.write(method);
+            }
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
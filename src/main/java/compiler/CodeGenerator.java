@@ -0,0 +1,244 @@
+/*!! Compiler */
+
+/*!
+CodeGenerator
+=============
+
+The `CodeGenerator` translates a `Program` into JVM bytecode. The generated class implements
+[CompiledCode](${basePath}/src/main/java/compiler/CompiledCode.java.html) and its method
+
+    public boolean execute(int[] values, boolean[] defined, Budget budget)
+
+runs the program on the valuation stored in the two arrays, which are indexed by the
+[Slots](${basePath}/src/main/java/interpreter/Slots.java.html) of the variables exactly as in a
+[Frame](${basePath}/src/main/java/interpreter/Frame.java.html).
+*/
+
+/*!- Header */
+package compiler;
+
+import expression.*;
+import interpreter.Slots;
+import program.*;
+
+import java.util.BitSet;
+
+/*! Every variable gets two local variables of the generated method: one holding its value and one holding `1` if the
+variable has been assigned and `0` otherwise. The method copies the arrays into these locals at the start and back at
+the end, so the JIT can keep all variables in registers while the program runs.
+
+The code of the program itself is generated by visiting it: every expression leaves its value on the operand stack
+and every program leaves the stack empty. */
+final class CodeGenerator implements ProgramVisitor<Void>, ExpressionVisitor<Void> {
+    static final String CLASS_NAME = "WhileProgram";
+    private static final String INTERFACE_NAME = "compiler/CompiledCode";
+    private static final String EXCEPTION_NAME = "interpreter/InterpreterException";
+    private static final String BUDGET_NAME = "interpreter/Budget";
+
+    /*! The locals 0 to 3 are `this`, `values`, `defined` and `budget`. Local 4 holds the result of the method: `1` if
+    the program finished and `0` if it was stopped because the budget was exceeded. The variables start at local 5. */
+    private static final int VALUES = 1;
+    private static final int DEFINED = 2;
+    private static final int BUDGET = 3;
+    private static final int COMPLETED = 4;
+    private static final int FIRST_VARIABLE = 5;
+
+    private final Slots slots;
+    private final ClassFile classFile = new ClassFile(CLASS_NAME, "java/lang/Object", INTERFACE_NAME);
+    private final ClassFile.Code code = new ClassFile.Code();
+
+    /*! All loops jump to `stop` if the budget is exceeded. */
+    private final ClassFile.Label stop = new ClassFile.Label();
+    private boolean loops;
+
+    /*! Reading a variable that has not been assigned raises an `InterpreterException`, just like in the
+    `Interpreter`. In order to avoid checking this on every read, we track which variables are _definitely assigned_ at
+    the current point of the program, i.e. have been assigned on every path leading to this point. Reading those
+    variables does not need a check. */
+    private BitSet assigned = new BitSet();
+
+    CodeGenerator(Slots slots) {
+        this.slots = slots;
+    }
+
+    private static int value(int slot) {
+        return FIRST_VARIABLE + 2 * slot;
+    }
+
+    private static int flag(int slot) {
+        return FIRST_VARIABLE + 2 * slot + 1;
+    }
+
+    byte[] generate(Program program) {
+        program.accept(this);
+        constructor();
+
+        /*! Only now we know all variables, so we generate the prologue loading them from the arrays and the epilogue
+        storing them back and put the code of the program in between. */
+        ClassFile.Code execute = new ClassFile.Code();
+        for (int slot = 0; slot < slots.size(); slot++) {
+            transfer(execute, slot, VALUES, ClassFile.IALOAD, ClassFile.ISTORE, value(slot));
+            transfer(execute, slot, DEFINED, ClassFile.BALOAD, ClassFile.ISTORE, flag(slot));
+        }
+        execute.push(classFile, 1);
+        execute.local(ClassFile.ISTORE, COMPLETED, -1);
+        /*! The code stopping the program is only needed if there are loops. It sets the result to `0` and continues
+        with the epilogue, so the partial valuation is stored in the arrays as well. */
+        if (loops) {
+            ClassFile.Label end = new ClassFile.Label();
+            code.jump(ClassFile.GOTO, end, 0);
+            code.place(stop);
+            code.push(classFile, 0);
+            code.local(ClassFile.ISTORE, COMPLETED, -1);
+            code.place(end);
+        }
+        ClassFile.Code epilogue = new ClassFile.Code();
+        for (int slot = 0; slot < slots.size(); slot++) {
+            store(epilogue, slot, VALUES, ClassFile.IASTORE, value(slot));
+            store(epilogue, slot, DEFINED, ClassFile.BASTORE, flag(slot));
+        }
+        epilogue.local(ClassFile.ILOAD, COMPLETED, 1);
+        epilogue.op(ClassFile.IRETURN, -1);
+        execute.append(code);
+        execute.append(epilogue);
+        classFile.method("execute", "([I[ZL" + BUDGET_NAME + ";)Z", execute, FIRST_VARIABLE + 2 * slots.size());
+        return classFile.toByteArray();
+    }
+
+    private void constructor() {
+        ClassFile.Code constructor = new ClassFile.Code();
+        constructor.local(ClassFile.ALOAD, 0, 1);
+        constructor.op(ClassFile.INVOKESPECIAL, classFile.methodReference("java/lang/Object", "<init>", "()V"), -1);
+        constructor.op(ClassFile.RETURN, 0);
+        classFile.method("<init>", "()V", constructor, 1);
+    }
+
+    private void transfer(ClassFile.Code code, int slot, int array, int load, int store, int local) {
+        code.local(ClassFile.ALOAD, array, 1);
+        code.push(classFile, slot);
+        code.op(load, -1);
+        code.local(store, local, -1);
+    }
+
+    private void store(ClassFile.Code code, int slot, int array, int store, int local) {
+        code.local(ClassFile.ALOAD, array, 1);
+        code.push(classFile, slot);
+        code.local(ClassFile.ILOAD, local, 1);
+        code.op(store, -3);
+    }
+
+    /*!
+    Programs
+    --------
+    */
+    public Void visitAssignment(Assignment assignment) {
+        int slot = slots.slot(assignment.identifier.name);
+        assignment.expression.accept(this);
+        code.local(ClassFile.ISTORE, value(slot), -1);
+        if (!assigned.get(slot)) {
+            code.push(classFile, 1);
+            code.local(ClassFile.ISTORE, flag(slot), -1);
+            assigned.set(slot);
+        }
+        return null;
+    }
+
+    public Void visitBlock(Block block) {
+        for (Program statement : block.statements) {
+            statement.accept(this);
+        }
+        return null;
+    }
+
+    public Void visitComposition(Composition composition) {
+        composition.first.accept(this);
+        composition.second.accept(this);
+        return null;
+    }
+
+    /*! A conditional becomes a conditional jump over the `thenCase` into the `elseCase`. Afterwards only the
+    variables assigned in both cases are definitely assigned. */
+    public Void visitConditional(Conditional conditional) {
+        ClassFile.Label elseCase = new ClassFile.Label();
+        ClassFile.Label end = new ClassFile.Label();
+        conditional.condition.accept(this);
+        code.jump(ClassFile.IFEQ, elseCase, -1);
+        BitSet before = (BitSet) assigned.clone();
+        conditional.thenCase.accept(this);
+        code.jump(ClassFile.GOTO, end, 0);
+        BitSet afterThenCase = assigned;
+        assigned = before;
+        code.place(elseCase);
+        conditional.elseCase.accept(this);
+        code.place(end);
+        assigned.and(afterThenCase);
+        return null;
+    }
+
+    /*! A loop becomes a conditional jump behind the loop and an unconditional jump back to the condition. The
+    `program` might not be executed at all, so variables assigned in it are not definitely assigned after the loop.
+    Before every iteration the loop calls `budget.step()` and jumps to `stop` if it returns `true`. */
+    public Void visitLoop(Loop loop) {
+        ClassFile.Label condition = new ClassFile.Label();
+        ClassFile.Label end = new ClassFile.Label();
+        loops = true;
+        code.place(condition);
+        loop.condition.accept(this);
+        code.jump(ClassFile.IFEQ, end, -1);
+        code.local(ClassFile.ALOAD, BUDGET, 1);
+        code.op(ClassFile.INVOKEVIRTUAL, classFile.methodReference(BUDGET_NAME, "step", "()Z"), 0);
+        code.jump(ClassFile.IFNE, stop, -1);
+        BitSet before = (BitSet) assigned.clone();
+        loop.program.accept(this);
+        assigned = before;
+        code.jump(ClassFile.GOTO, condition, 0);
+        code.place(end);
+        return null;
+    }
+
+    /*!
+    Expressions
+    -----------
+    */
+    public Void visitAddition(Addition addition) {
+        addition.leftHandSide.accept(this);
+        addition.rightHandSide.accept(this);
+        code.op(ClassFile.IADD, -1);
+        return null;
+    }
+
+    public Void visitSubtraction(Subtraction subtraction) {
+        subtraction.leftHandSide.accept(this);
+        subtraction.rightHandSide.accept(this);
+        code.op(ClassFile.ISUB, -1);
+        return null;
+    }
+
+    public Void visitInt(Int integer) {
+        code.push(classFile, integer.value);
+        return null;
+    }
+
+    /*! If the variable might not have been assigned, we check its flag and throw the exception
+
+        new InterpreterException("Identifier x not found.")
+
+    if the flag is `0`. */
+    public Void visitIdentifier(Identifier identifier) {
+        int slot = slots.slot(identifier.name);
+        if (!assigned.get(slot)) {
+            ClassFile.Label found = new ClassFile.Label();
+            code.local(ClassFile.ILOAD, flag(slot), 1);
+            code.jump(ClassFile.IFNE, found, -1);
+            code.op(ClassFile.NEW, classFile.classReference(EXCEPTION_NAME), 1);
+            code.op(ClassFile.DUP, 1);
+            code.op(ClassFile.LDC_W, classFile.string("Identifier " + identifier.name + " not found."), 1);
+            code.op(ClassFile.INVOKESPECIAL,
+                    classFile.methodReference(EXCEPTION_NAME, "<init>", "(Ljava/lang/String;)V"), -2);
+            code.op(ClassFile.ATHROW, -1);
+            code.place(found);
+        }
+        code.local(ClassFile.ILOAD, value(slot), 1);
+        return null;
+    }
+}
@@ -0,0 +1,22 @@
+/*!! Compiler */
+
+/*!
+CompiledCode
+============
+*/
+
+/*!- Header */
+package compiler;
+
+import interpreter.Budget;
+
+/*! `CompiledCode` is implemented by the classes generated by the
+[CodeGenerator](${basePath}/src/main/java/compiler/CodeGenerator.java.html). `execute` runs the compiled program on
+the valuation given by the two arrays `values` and `defined` of a
+[Frame](${basePath}/src/main/java/interpreter/Frame.java.html) and updates them in place. The interface has to be
+public, because the generated classes are defined by their own class loader. */
+public interface CompiledCode {
+    /*! Every loop iteration counts one step of the `budget`. If the budget is exceeded, `execute` stores the current
+    valuation in the arrays and returns `false`. Otherwise it returns `true` after the program has finished. */
+    boolean execute(int[] values, boolean[] defined, Budget budget);
+}
@@ -0,0 +1,43 @@
+/*!! Compiler */
+
+/*!
+CompiledProgram
+===============
+*/
+
+/*!- Header */
+package compiler;
+
+import interpreter.Budget;
+import interpreter.Frame;
+import interpreter.Limits;
+import interpreter.Slots;
+
+import java.util.Map;
+
+/*! A `CompiledProgram` is the result of the [Compiler](${basePath}/src/main/java/compiler/Compiler.java.html). It can
+be run any number of times. Every run starts with an empty valuation on a new
+[Frame](${basePath}/src/main/java/interpreter/Frame.java.html) and returns the final valuation. */
+public final class CompiledProgram {
+    private final Slots slots;
+    private final CompiledCode code;
+
+    CompiledProgram(Slots slots, CompiledCode code) {
+        this.slots = slots;
+        this.code = code;
+    }
+
+    public Map<String, Integer> run() {
+        return run(Limits.NONE);
+    }
+
+    /*! Raises a `LimitExceededException` if the run exceeds the given `limits`. */
+    public Map<String, Integer> run(Limits limits) {
+        Frame frame = new Frame(slots);
+        Budget budget = limits.start();
+        if (!code.execute(frame.values, frame.defined, budget)) {
+            throw budget.exceeded(frame.getValuation());
+        }
+        return frame.getValuation();
+    }
+}
@@ -0,0 +1,58 @@
+/*!! Compiler */
+
+/*!
+Compiler
+========
+
+For long running programs even the resolved tree of the `Interpreter` spends most of its time calling the `evaluate`
+and `execute` methods of its nodes. The `Compiler` instead translates a `Program` into a JVM class at runtime. The JIT
+compiler of the JVM then translates this class into machine code, just like any other Java code.
+*/
+
+/*!- Header */
+package compiler;
+
+import interpreter.Slots;
+import program.Program;
+
+import java.lang.reflect.InvocationTargetException;
+
+/*! The `Compiler` can be used as follows on a given `program` of type `Program`.
+
+    CompiledProgram compiled = new Compiler().compile(program);
+    System.out.println(compiled.run());
+
+The result of `run` is the same valuation the `Interpreter` would compute. */
+public class Compiler {
+    public CompiledProgram compile(Program program) {
+        Slots slots = new Slots();
+        byte[] bytes = new CodeGenerator(slots).generate(program);
+        /*! Every program gets its own class loader, so the generated class can be garbage collected together with the
+        `CompiledProgram` once it is no longer needed. */
+        Class<?> generated = new ProgramClassLoader(Compiler.class.getClassLoader())
+                .define(CodeGenerator.CLASS_NAME, bytes);
+        try {
+            return new CompiledProgram(slots, (CompiledCode) generated.getConstructor().newInstance());
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (InstantiationException e) {
+            throw new IllegalStateException(e);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /*! The generated classes refer to `CompiledCode`, `Budget` and `InterpreterException`, so the parent of the class
+    loader has to be the class loader of the `Compiler` itself. */
+    private static final class ProgramClassLoader extends ClassLoader {
+        ProgramClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        Class<?> define(String name, byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+/*!! Compiler */
+
+/*!
+CompilerException
+=================
+*/
+
+/*!- Header */
+package compiler;
+
+/*! The `CompilerException` is raised if a `Program` cannot be compiled, because the generated class would exceed one
+of the limits of the JVM, e.g. the maximal size of 64 KB of code per method. Such programs can still be run with the
+`Interpreter`. */
+public class CompilerException extends RuntimeException {
+    public CompilerException(String error) {
+        super(error);
+    }
+}
@@ -20,12 +20,21 @@ represents the code
     x + 2
 */
 public class Addition extends Expression {
+    private static final int SEED = 0x2545F491;
+
     public final Expression leftHandSide;
     public final Expression rightHandSide;
+    private final int hashCode;
 
     public Addition(Expression leftHandSide, Expression rightHandSide) {
         this.leftHandSide = leftHandSide;
         this.rightHandSide = rightHandSide;
+        this.hashCode = 31 * (31 * SEED + leftHandSide.hashCode()) + rightHandSide.hashCode();
+    }
+
+    @Override
+    public <T> T accept(ExpressionVisitor<T> visitor) {
+        return visitor.visitAddition(this);
     }
 
     /*!- Generated equals implementation */
@@ -35,9 +44,15 @@ public class Addition extends Expression {
         if (o == null || getClass() != o.getClass()) return false;
 
         Addition addition = (Addition) o;
+        if (hashCode != addition.hashCode) return false;
 
         if (!leftHandSide.equals(addition.leftHandSide)) return false;
         return rightHandSide.equals(addition.rightHandSide);
 
     }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
 }
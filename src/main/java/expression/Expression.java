@@ -16,5 +16,13 @@ Expression can be written as the following
 /*!- Header */
 package expression;
 
-/*! `Expression` is the common abstract class for Expressions that can be evaluated using the `Evaluator`. */
-abstract public class Expression { }
+/*! `Expression` is the common abstract class for Expressions that can be evaluated using the `Evaluator`. Every
+expression can be visited by an [ExpressionVisitor](${basePath}/src/main/java/expression/ExpressionVisitor.java.html).
+
+Expressions are immutable and compared by their structure with `equals`. Their `hashCode` is consistent with `equals`.
+Expressions with subexpressions compute it once in their constructor from the hash codes of their subexpressions, so
+`hashCode` takes constant time even for very deep expressions, and `equals` can stop early if the hash codes differ.
+`Addition` and `Subtraction` mix different seeds into their hash codes, so `a + b` and `a - b` do not collide. */
+abstract public class Expression {
+    public abstract <T> T accept(ExpressionVisitor<T> visitor);
+}
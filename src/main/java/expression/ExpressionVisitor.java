@@ -0,0 +1,23 @@
+/*!! Expression */
+
+/*!
+ExpressionVisitor
+=================
+
+The evaluator and the printer are performing structural recursion on the inductive data structure `Expression`. Like
+the [ProgramVisitor](${basePath}/src/main/java/program/ProgramVisitor.java.html) this is implemented using the
+[Visitor Pattern](https://en.wikipedia.org/wiki/Visitor_pattern).
+*/
+
+/*!- Header */
+package expression;
+
+/*! An `ExpressionVisitor` provides one `visit` method for every kind of `Expression`. Every `Expression` implements
+`accept` by calling the `visit` method for its own class, so `expression.accept(visitor)` selects the right method
+without any reflection. */
+public interface ExpressionVisitor<T> {
+    T visitAddition(Addition addition);
+    T visitIdentifier(Identifier identifier);
+    T visitInt(Int integer);
+    T visitSubtraction(Subtraction subtraction);
+}
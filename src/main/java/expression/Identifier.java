@@ -17,6 +17,11 @@ public class Identifier extends Expression {
         this.name = name;
     }
 
+    @Override
+    public <T> T accept(ExpressionVisitor<T> visitor) {
+        return visitor.visitIdentifier(this);
+    }
+
     /*!- generated equals implementation */
     @Override
     public boolean equals(Object o) {
@@ -28,4 +33,9 @@ public class Identifier extends Expression {
         return name.equals(that.name);
 
     }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
 }
@@ -11,15 +11,49 @@ In order to avoid confusion with Java's `Integer` auto-boxing class for the prim
 /*!- Header */
 package expression;
 
+import java.math.BigInteger;
+
 /*!
 An `Int` consists only of its `value`. This class is only needed as a wrapper which allows
 us to use an integer as an expression.
+
+Integer literals can be arbitrarily large. The `value` of a literal outside the range of `int` keeps only its lowest
+32 bits, which is exactly the value that wrapping `int` arithmetic computes with. The exact literal is stored in `big`
+and available with `longValue()` and `bigValue()` for the
+[NumericResolver](${basePath}/src/main/java/interpreter/NumericResolver.java.html). Literals in the range of `int` do
+not need a `BigInteger` at all.
 */
 public class Int extends Expression {
     public final int value;
+    private final BigInteger big;
 
     public Int(int value) {
         this.value = value;
+        this.big = null;
+    }
+
+    public Int(BigInteger value) {
+        this.value = value.intValue();
+        this.big = value.bitLength() < 32 ? null : value;
+    }
+
+    /*! `isInt` tells whether the literal is in the range of `int`, i.e. whether `value` is exact. */
+    public boolean isInt() {
+        return big == null;
+    }
+
+    /*! The lowest 64 bits of the literal. */
+    public long longValue() {
+        return big == null ? value : big.longValue();
+    }
+
+    public BigInteger bigValue() {
+        return big == null ? BigInteger.valueOf(value) : big;
+    }
+
+    @Override
+    public <T> T accept(ExpressionVisitor<T> visitor) {
+        return visitor.visitInt(this);
     }
 
     /*!- generated equals implementation */
@@ -30,6 +64,11 @@ public class Int extends Expression {
 
         Int integer = (Int) o;
 
-        return value == integer.value;
+        return value == integer.value && (big == null ? integer.big == null : big.equals(integer.big));
+    }
+
+    @Override
+    public int hashCode() {
+        return big == null ? value : big.hashCode();
     }
 }
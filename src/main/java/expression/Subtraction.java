@@ -20,12 +20,21 @@ represents the code
     x - 2
 */
 public class Subtraction extends Expression {
+    private static final int SEED = 0x5851F42D;
+
     public final Expression leftHandSide;
     public final Expression rightHandSide;
+    private final int hashCode;
 
     public Subtraction(Expression leftHandSide, Expression rightHandSide) {
         this.leftHandSide = leftHandSide;
         this.rightHandSide = rightHandSide;
+        this.hashCode = 31 * (31 * SEED + leftHandSide.hashCode()) + rightHandSide.hashCode();
+    }
+
+    @Override
+    public <T> T accept(ExpressionVisitor<T> visitor) {
+        return visitor.visitSubtraction(this);
     }
 
     /*!- generated equals implementation */
@@ -35,9 +44,15 @@ public class Subtraction extends Expression {
         if (o == null || getClass() != o.getClass()) return false;
 
         Subtraction that = (Subtraction) o;
+        if (hashCode != that.hashCode) return false;
 
         if (!leftHandSide.equals(that.leftHandSide)) return false;
         return rightHandSide.equals(that.rightHandSide);
 
     }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
 }
@@ -0,0 +1,88 @@
+/*!! Interpreter */
+
+/*!
+Budget
+======
+
+The `Budget` of a single run counts the executed steps and checks the [Limits](${basePath}/src/main/java/interpreter/Limits.java.html).
+Every engine calls `step` once per loop iteration, right before the body of the loop is executed.
+*/
+
+/*!- Header */
+package interpreter;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*! `step` sits in the innermost loop of every engine, so it has to be cheap. It only increments the counter and
+compares it to `nextCheck`, the number of steps at which the limits have to be checked again. Reading the clock is
+much more expensive than counting, so the time is only checked every `TIME_CHECK_INTERVAL` steps. Without a time limit
+`nextCheck` is the step limit itself, and without any limit the check never happens. */
+public final class Budget {
+    private static final long TIME_CHECK_INTERVAL = 1024;
+
+    private final Limits limits;
+    private final long deadline;
+    private long steps;
+    private long nextCheck;
+    private boolean timedOut;
+
+    Budget(Limits limits) {
+        this.limits = limits;
+        if (limits.timeoutMillis == Long.MAX_VALUE) {
+            deadline = Long.MAX_VALUE;
+            nextCheck = limits.maxSteps;
+        } else {
+            /*! `toNanos` saturates instead of overflowing for huge timeouts. The sum may wrap around, which the
+            comparison in `check` handles, as it compares the difference to the deadline. */
+            deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(limits.timeoutMillis);
+            nextCheck = Math.min(limits.maxSteps, TIME_CHECK_INTERVAL);
+        }
+    }
+
+    /*! Counts one step before the next loop iteration is executed and returns `true` if a limit is exceeded. The
+    engine must stop without executing the iteration then and raise the exception created by `exceeded`. */
+    public boolean step() {
+        return ++steps > nextCheck && check();
+    }
+
+    /*! Counts `count` steps at once, for engines that compute many loop iterations without running them. Returns
+    `false` and counts nothing if the steps would exceed the step limit. The engine has to run the iterations one by
+    one then, so the limit is hit at the exact same step. */
+    public boolean skip(long count) {
+        if (count > limits.maxSteps - steps) {
+            return false;
+        }
+        steps += count;
+        return true;
+    }
+
+    /*! If a limit is exceeded, the step just counted is not executed and therefore not counted either. */
+    private boolean check() {
+        if (steps > limits.maxSteps) {
+            steps--;
+            return true;
+        }
+        if (deadline != Long.MAX_VALUE) {
+            if (System.nanoTime() - deadline > 0) {
+                steps--;
+                timedOut = true;
+                return true;
+            }
+            nextCheck = Math.min(limits.maxSteps, steps + TIME_CHECK_INTERVAL);
+        }
+        return false;
+    }
+
+    public long getSteps() {
+        return steps;
+    }
+
+    /*! The exception reporting the exceeded limit together with the given partial `valuation`. */
+    public LimitExceededException exceeded(Map<String, ? extends Number> valuation) {
+        String message = timedOut
+                ? "Timeout of " + limits.timeoutMillis + " ms exceeded after " + steps + " steps."
+                : "Limit of " + limits.maxSteps + " steps exceeded.";
+        return new LimitExceededException(message, steps, valuation);
+    }
+}
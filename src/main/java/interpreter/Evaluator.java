@@ -25,29 +25,47 @@ package interpreter;
 
 import expression.*;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /*! The `Evaluator` implements the evaluation function defined above with the help of the
-[Visitor](${basePath}/src/main/java/interpreter/Visitor.java.html). The `Evaluator`
-takes an `Expression` in the constructor and provides a method `eval()` which evaluates
+[ExpressionVisitor](${basePath}/src/main/java/expression/ExpressionVisitor.java.html). The `Evaluator`
+takes the variable valuation in the constructor and provides a method `eval` which evaluates
 the given expression and returns the result as an integer. For a given `expression` of type `Expression`
 it can be used as follows
 
-    Evaluator evaluator = new Evaluator(expression, valuation)
-    System.out.println(evaluator.getValue());
+    Evaluator evaluator = new Evaluator(valuation);
+    System.out.println(evaluator.eval(expression));
 
 The evaluation function `eval` takes the variable valuation `v`, which is passed on recursively. As the valuation
-is not changed during the evaluation process, it can be stored in a global variable which is not changed. */
-public class Evaluator extends Visitor<Integer> {
-    private final int value;
-    private final Map<String, Integer> valuation = new HashMap<String, Integer>();
+is not changed during the evaluation process, it can be stored in a global variable which is not changed.
+The `Evaluator` only reads this map and never copies it. It always sees the current state of the given valuation,
+so one `Evaluator` can be reused for every expression that needs to be evaluated on the same valuation. Evaluating an
+expression therefore does not depend on the number of variables in the valuation.
+
+The `Interpreter` does not use the `Evaluator`, but evaluates the
+[ResolvedExpression](${basePath}/src/main/java/interpreter/ResolvedExpression.java.html)s directly on its
+[Frame](${basePath}/src/main/java/interpreter/Frame.java.html). */
+public class Evaluator implements ExpressionVisitor<Integer> {
+    private int value;
+    private final Map<String, Integer> valuation;
+
+    public Evaluator(Map<String, Integer> valuation) {
+        this.valuation = valuation;
+    }
 
+    /*! For a single evaluation the expression can be passed to the constructor as well. The result is then available
+    with `getValue()`. */
     public Evaluator(Expression expression, Map<String, Integer> valuation) {
-        this.valuation.putAll(valuation);
-        value = visit(expression);
+        this(valuation);
+        eval(expression);
+    }
+
+    public int eval(Expression expression) {
+        value = expression.accept(this);
+        return value;
     }
 
+    /*! `getValue` returns the result of the last evaluation. */
     public int getValue() {
         return value;
     }
@@ -56,14 +74,14 @@ public class Evaluator extends Visitor<Integer> {
         eval(e1 "+" e2, v) = eval(e1, v) + eval(e2, v)
     */
     public Integer visitAddition(Addition addition) {
-        return visit(addition.leftHandSide) + visit(addition.rightHandSide);
+        return addition.leftHandSide.accept(this) + addition.rightHandSide.accept(this);
     }
 
     /*!
         eval(e1 "-" e2, v) = eval(e1, v) - eval(e2, v)
     */
     public Integer visitSubtraction(Subtraction subtraction) {
-        return visit(subtraction.leftHandSide) - visit(subtraction.rightHandSide);
+        return subtraction.leftHandSide.accept(this) - subtraction.rightHandSide.accept(this);
     }
 
     /*!
@@ -74,14 +92,16 @@ public class Evaluator extends Visitor<Integer> {
     }
 
     public Integer visitIdentifier(Identifier identifier) {
-        /*! Make sure that the identifier actually exists in the valuation and raise an exception otherwise. */
-        if (valuation.containsKey(identifier.name)) {
+        /*! Make sure that the identifier actually exists in the valuation and raise an exception otherwise. As the
+        valuation never contains `null` values, a single lookup is enough for this check. */
+        Integer result = valuation.get(identifier.name);
+        if (result != null) {
             /*!
                 eval(z, v) = z
             */
-            return valuation.get(identifier.name);
+            return result;
         } else {
-            throw new InterpreterException("Identifier " + identifier.name + " not found.");
+            throw new InterpreterException("Identifier " + identifier.name + " not found.", identifier);
         }
     }
 }
@@ -0,0 +1,70 @@
+/*!! Interpreter */
+
+/*!
+Frame
+=====
+
+A `Frame` stores the variable valuation of a running program. The values are stored in the primitive array `values`
+indexed by the [Slots](${basePath}/src/main/java/interpreter/Slots.java.html) of the variables, so reading and writing a
+variable neither hashes its name nor boxes its value.
+*/
+
+/*!- Header */
+package interpreter;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/*! A variable is only part of the valuation after it was assigned. As every `int` is a valid value, the array
+`defined` keeps track of the variables that have been assigned already. */
+public final class Frame {
+    public final Slots slots;
+    public final int[] values;
+    public final boolean[] defined;
+
+    /*! The [Budget](${basePath}/src/main/java/interpreter/Budget.java.html) of the current run. Every loop iteration
+    counts one step of it. */
+    public Budget budget = Limits.NONE.start();
+
+    public Frame(Slots slots) {
+        this.slots = slots;
+        this.values = new int[slots.size()];
+        this.defined = new boolean[slots.size()];
+    }
+
+    /*! Creates a copy of the given `frame` with room for `capacity` variables. This is needed if more variables
+    are added to the `slots` while running, which happens in the
+    [IncrementalInterpreter](${basePath}/src/main/java/interpreter/IncrementalInterpreter.java.html). */
+    Frame(Frame frame, int capacity) {
+        this.slots = frame.slots;
+        this.values = Arrays.copyOf(frame.values, capacity);
+        this.defined = Arrays.copyOf(frame.defined, capacity);
+        this.budget = frame.budget;
+    }
+
+    /*! `reset` prepares the frame for another run starting with the given `valuation`, so one frame can be reused for
+    many runs of the same program. Variables of the valuation without a slot are not used by the program and are
+    ignored. */
+    public void reset(Map<String, Integer> valuation) {
+        Arrays.fill(defined, false);
+        for (Map.Entry<String, Integer> entry : valuation.entrySet()) {
+            int slot = slots.find(entry.getKey());
+            if (slot >= 0) {
+                values[slot] = entry.getValue();
+                defined[slot] = true;
+            }
+        }
+    }
+
+    /*! `getValuation` translates the frame back into a map from variable names to values. */
+    public Map<String, Integer> getValuation() {
+        Map<String, Integer> valuation = new HashMap<String, Integer>();
+        for (int slot = 0; slot < values.length; slot++) {
+            if (defined[slot]) {
+                valuation.put(slots.name(slot), values[slot]);
+            }
+        }
+        return valuation;
+    }
+}
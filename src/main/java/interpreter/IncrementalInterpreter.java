@@ -0,0 +1,60 @@
+/*!! Interpreter */
+
+/*!
+IncrementalInterpreter
+======================
+
+The `IncrementalInterpreter` runs a program statement by statement while the statements become known, e.g. while
+they are read by the [StreamingParser](${basePath}/src/main/java/parser/StreamingParser.java.html). Executing the
+statements `c1`, `c2`, ..., `cn` one after another yields the same valuation as running the program
+`c1 ; c2 ; ... ; cn`:
+
+    IncrementalInterpreter interpreter = new IncrementalInterpreter();
+    interpreter.execute(new Parser("a := 6 ; b := 7").parse());
+    interpreter.execute(new Parser("r := a + b").parse());
+    System.out.println(interpreter.getValuation());
+*/
+
+/*!- Header */
+package interpreter;
+
+import optimizer.Optimizer;
+import program.Program;
+
+import java.util.Map;
+
+/*! Every statement is optimized and resolved on its own. This is safe, as the
+[Optimizer](${basePath}/src/main/java/optimizer/Optimizer.java.html) keeps all variables that are part of the final
+valuation of the statement, which is the starting valuation of the next statement. All statements share the same
+`slots` and the same [Frame](${basePath}/src/main/java/interpreter/Frame.java.html). If new variables appear, the
+frame is replaced by a copy twice as large, so all copies together take time linear in the number of variables.
+
+All statements share one budget, so the [Limits](${basePath}/src/main/java/interpreter/Limits.java.html) apply to the
+whole program. If a statement raises an `InterpreterException`, the valuation contains the effect of all previous
+statements. As statements write the shared frame in place, it also contains the assignments the failed statement
+executed before the error, just like the partial valuation of a `LimitExceededException`. */
+public final class IncrementalInterpreter {
+    private final Slots slots = new Slots();
+    private final Optimizer optimizer = new Optimizer();
+    private Frame frame = new Frame(slots);
+
+    public IncrementalInterpreter() {
+        this(Limits.NONE);
+    }
+
+    public IncrementalInterpreter(Limits limits) {
+        frame.budget = limits.start();
+    }
+
+    public void execute(Program statement) {
+        ResolvedProgram resolved = new Resolver(slots).resolve(optimizer.optimize(statement));
+        if (slots.size() > frame.values.length) {
+            frame = new Frame(frame, Math.max(slots.size(), 2 * frame.values.length));
+        }
+        resolved.execute(frame);
+    }
+
+    public Map<String, Integer> getValuation() {
+        return frame.getValuation();
+    }
+}
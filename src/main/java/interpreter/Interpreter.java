@@ -33,73 +33,46 @@ The evaluation function `eval` is described at the
 /*!- Header */
 package interpreter;
 
-import program.*;
+import program.Program;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 
-/*! The `Interpreter` implements the semantic function defined above with the help of the
-[Visitor](${basePath}/src/main/java/interpreter/Visitor.java.html). The `Interpreter`
-runs the given `Program` in the constructor and can be used as follows on a given `program` of type `Program`.
+/*! The `Interpreter` implements the semantic function defined above. It runs the given `Program` in the constructor
+and can be used as follows on a given `program` of type `Program`.
 
     Interpreter interpreter = new Interpreter(program);
     System.out.println(interpreter.getValuation());
 
-The semantic function `sem` passes along the variable valuation `v`. In the `Interpreter` the valuation is realized
-as global variable `valuation`. Because of the in-order execution this global variable always represents the state
-of the `v` passed to the semantic function `sem`. */
-public class Interpreter extends Visitor {
-    private final Map<String, Integer> valuation = new HashMap<String, Integer>();
+Before the program is run, it is simplified by the [Optimizer](${basePath}/src/main/java/optimizer/Optimizer.java.html).
+Running a program then happens in two phases. First the [Resolver](${basePath}/src/main/java/interpreter/Resolver.java.html)
+numbers all variables of the program and translates it into a
+[ResolvedProgram](${basePath}/src/main/java/interpreter/ResolvedProgram.java.html) that refers to variables by these
+numbers. The rules of the semantic function `sem` are implemented there. Second the resolved program is executed on a
+[Frame](${basePath}/src/main/java/interpreter/Frame.java.html), which stores the valuation in a primitive `int` array.
+At the end the frame is translated back into the usual map from variable names to values.
+
+Both phases are implemented by the [PreparedProgram](${basePath}/src/main/java/interpreter/PreparedProgram.java.html),
+which can run the same program on many initial valuations without optimizing and resolving it again. */
+public class Interpreter {
+    private final Map<String, Integer> valuation;
 
     public Map<String, Integer> getValuation() {
-        Map<String, Integer> result = new HashMap<String, Integer>();
-        result.putAll(valuation);
-        return result;
+        return valuation;
     }
 
     public Interpreter(Program program) {
-        visit(program);
-    }
-
-    /*!
-        sem(x ":=" e, v) = v.update(x, eval(e, v))
-    */
-    public void visitAssignment(Assignment assignment) {
-        Evaluator evaluator = new Evaluator(assignment.expression, valuation);
-        valuation.put(assignment.identifier.name, evaluator.getValue());
-    }
-
-    /*!
-        sem(c1 ";" c2) = sem(c2, sem(c1, v))
-    */
-    public void visitComposition(Composition composition) {
-        visit(composition.first);
-        visit(composition.second);
+        this(program, Collections.<String, Integer>emptyMap());
     }
 
-    /*!
-        sem("if" "(" e ")" "then" "{" c1 "}" else "{" c2 "}") =
-          sem(c1, v)    if eval(e, v) != 0
-          sem(c2, v)    else
-    */
-    public void visitConditional(Conditional conditional) {
-        Evaluator evaluator = new Evaluator(conditional.condition, valuation);
-        if (evaluator.getValue() != 0) {
-            visit(conditional.thenCase);
-        } else {
-            visit(conditional.elseCase);
-        }
+    /*! Instead of the empty valuation the program can start with the given initial `valuation`. */
+    public Interpreter(Program program, Map<String, Integer> valuation) {
+        this(program, valuation, Limits.NONE);
     }
 
-    /*!
-        sem("while" "(" e ")" "{" c "}", v) =
-          sem(c ";" "while" "(" e ")" "{" c "}", v)   if eval(e, v) != 0
-          v                                           else
-    */
-    public void visitLoop(Loop loop) {
-        Evaluator evaluator = new Evaluator(loop.condition, valuation);
-        if (evaluator.getValue() != 0) {
-            visit(new Composition(loop.program, loop));
-        }
+    /*! The run can be restricted by [Limits](${basePath}/src/main/java/interpreter/Limits.java.html). If they are
+    exceeded, a `LimitExceededException` is raised. */
+    public Interpreter(Program program, Map<String, Integer> valuation, Limits limits) {
+        this.valuation = new PreparedProgram(program, limits).run(valuation);
     }
 }
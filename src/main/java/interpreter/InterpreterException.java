@@ -12,7 +12,17 @@ package interpreter;
 running a `Program`. */
 
 public class InterpreterException extends RuntimeException {
+    /*! The node of the program causing the error or `null` if unknown. It is an `Identifier` that has not been
+    assigned, for example. Its position can be looked up in the
+    [SourceMap](${basePath}/src/main/java/parser/SourceMap.java.html) of the parser. */
+    public final Object node;
+
     public InterpreterException(String error) {
+        this(error, null);
+    }
+
+    public InterpreterException(String error, Object node) {
         super(error);
+        this.node = node;
     }
 }
@@ -0,0 +1,27 @@
+/*!! Interpreter */
+
+/*!
+LimitExceededException
+======================
+*/
+
+/*!- Header */
+package interpreter;
+
+import java.util.Map;
+
+/*! A `LimitExceededException` is raised if a program exceeds its [Limits](${basePath}/src/main/java/interpreter/Limits.java.html).
+It reports the number of `steps` executed and the partial `valuation` at the moment the program was stopped. The
+values are `Integer`s, unless the program was run by the
+[NumericInterpreter](${basePath}/src/main/java/interpreter/NumericInterpreter.java.html) in a mode computing with
+`Long`s or `BigInteger`s. */
+public class LimitExceededException extends InterpreterException {
+    public final long steps;
+    public final Map<String, ? extends Number> valuation;
+
+    public LimitExceededException(String error, long steps, Map<String, ? extends Number> valuation) {
+        super(error);
+        this.steps = steps;
+        this.valuation = valuation;
+    }
+}
@@ -0,0 +1,49 @@
+/*!! Interpreter */
+
+/*!
+Limits
+======
+
+A `while` loop whose condition never becomes `0` runs forever. `Limits` restrict how long a program may run: the
+maximal number of _steps_ and the maximal time in milliseconds. A step is one iteration of a loop. Programs without
+loops always terminate after executing every statement at most once, so only loop iterations need to be counted.
+
+    Interpreter interpreter = new Interpreter(program, valuation, new Limits(1000000, 100));
+
+raises a [LimitExceededException](${basePath}/src/main/java/interpreter/LimitExceededException.java.html) if the
+program runs more than a million loop iterations or longer than 100 milliseconds.
+*/
+
+/*!- Header */
+package interpreter;
+
+/*! `Limits` are immutable and can be shared by any number of runs. Every run starts its own
+[Budget](${basePath}/src/main/java/interpreter/Budget.java.html), which counts the steps of this run. */
+public final class Limits {
+    /*! No limits at all. */
+    public static final Limits NONE = new Limits(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    public final long maxSteps;
+    public final long timeoutMillis;
+
+    public Limits(long maxSteps, long timeoutMillis) {
+        if (maxSteps < 0 || timeoutMillis < 0) {
+            throw new IllegalArgumentException("Limits must not be negative");
+        }
+        this.maxSteps = maxSteps;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public static Limits steps(long maxSteps) {
+        return new Limits(maxSteps, Long.MAX_VALUE);
+    }
+
+    public static Limits timeout(long timeoutMillis) {
+        return new Limits(Long.MAX_VALUE, timeoutMillis);
+    }
+
+    /*! Starts the budget of a new run. The time limit starts now. */
+    public Budget start() {
+        return new Budget(this);
+    }
+}
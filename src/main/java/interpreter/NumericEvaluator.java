@@ -0,0 +1,61 @@
+/*!! Interpreter */
+
+/*!
+NumericEvaluator
+================
+
+The `NumericEvaluator` implements the evaluation function `eval` described at the
+[Evaluator](${basePath}/src/main/java/interpreter/Evaluator.java.html) in one of the
+[NumericMode](${basePath}/src/main/java/interpreter/NumericMode.java.html)s:
+
+    NumericEvaluator evaluator = NumericEvaluator.create(NumericMode.BIG_INTEGER, valuation);
+    System.out.println(evaluator.eval(expression));
+
+Just like the `Evaluator` it only reads the given valuation and always sees its current state. The valuation may
+contain any kind of `Number`. Every value is converted into the mode when it is read, e.g. a `BigInteger` keeps only
+its lowest 32 bits in `INT32` mode.
+*/
+
+/*!- Header */
+package interpreter;
+
+import expression.Expression;
+
+import java.util.Map;
+
+/*! The `NumericEvaluator` shares its arithmetic with the
+[NumericInterpreter](${basePath}/src/main/java/interpreter/NumericInterpreter.java.html): `eval` resolves the
+expression with the [NumericResolver](${basePath}/src/main/java/interpreter/NumericResolver.java.html) and evaluates it
+on a [NumericFrame](${basePath}/src/main/java/interpreter/NumericFrame.java.html) holding the current values of the
+variables it reads. In the modes `INT32`, `INT64` and `CHECKED` the intermediate results are primitive `long`s, so
+they are never boxed and no `BigInteger` is created. Only the final result of `eval` is boxed. */
+public final class NumericEvaluator {
+    private final NumericMode mode;
+    private final Map<String, ? extends Number> valuation;
+
+    private NumericEvaluator(NumericMode mode, Map<String, ? extends Number> valuation) {
+        this.mode = mode;
+        this.valuation = valuation;
+    }
+
+    public static NumericEvaluator create(NumericMode mode, Map<String, ? extends Number> valuation) {
+        return new NumericEvaluator(mode, valuation);
+    }
+
+    /*! `eval` returns an `Integer` in the modes `INT32` and `CHECKED`, a `Long` in the mode `INT64` and a
+    `BigInteger` in the mode `BIG_INTEGER`. */
+    public Number eval(Expression expression) {
+        Slots slots = new Slots();
+        NumericExpression resolved = new NumericResolver(slots, mode).resolve(expression);
+        NumericFrame frame = new NumericFrame(slots, mode);
+        frame.reset(valuation);
+        if (mode == NumericMode.BIG_INTEGER) {
+            return ((NumericExpression.Big) resolved).evaluate(frame);
+        }
+        long value = ((NumericExpression.Primitive) resolved).evaluate(frame);
+        if (mode == NumericMode.INT64) {
+            return value;
+        }
+        return (int) value;
+    }
+}
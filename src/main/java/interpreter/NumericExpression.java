@@ -0,0 +1,243 @@
+/*!! Interpreter */
+
+/*!
+NumericExpression
+=================
+
+A `NumericExpression` is the counterpart of the [ResolvedExpression](${basePath}/src/main/java/interpreter/ResolvedExpression.java.html)
+for the [NumericInterpreter](${basePath}/src/main/java/interpreter/NumericInterpreter.java.html). It refers to
+variables by their slots and evaluates itself on a
+[NumericFrame](${basePath}/src/main/java/interpreter/NumericFrame.java.html).
+*/
+
+/*!- Header */
+package interpreter;
+
+import java.math.BigInteger;
+
+/*! The [NumericResolver](${basePath}/src/main/java/interpreter/NumericResolver.java.html) creates `Primitive`
+expressions for the modes `INT32`, `INT64` and `CHECKED`, which compute with primitive `long`s without any boxing,
+and `Big` expressions for the mode `BIG_INTEGER`. Both can be used as condition, which `test`s whether the value is
+not `0`. */
+abstract class NumericExpression {
+    abstract boolean test(NumericFrame frame);
+
+    abstract static class Primitive extends NumericExpression {
+        abstract long evaluate(NumericFrame frame);
+
+        @Override
+        boolean test(NumericFrame frame) {
+            return evaluate(frame) != 0;
+        }
+    }
+
+    abstract static class Big extends NumericExpression {
+        abstract BigInteger evaluate(NumericFrame frame);
+
+        @Override
+        boolean test(NumericFrame frame) {
+            return evaluate(frame).signum() != 0;
+        }
+    }
+
+    static InterpreterException notFound(expression.Identifier identifier) {
+        return ResolvedExpression.Identifier.notFound(identifier);
+    }
+
+    /*!
+    64 Bits
+    -------
+    */
+    static final class Addition extends Primitive {
+        private final Primitive leftHandSide;
+        private final Primitive rightHandSide;
+
+        Addition(Primitive leftHandSide, Primitive rightHandSide) {
+            this.leftHandSide = leftHandSide;
+            this.rightHandSide = rightHandSide;
+        }
+
+        @Override
+        long evaluate(NumericFrame frame) {
+            return leftHandSide.evaluate(frame) + rightHandSide.evaluate(frame);
+        }
+    }
+
+    static final class Subtraction extends Primitive {
+        private final Primitive leftHandSide;
+        private final Primitive rightHandSide;
+
+        Subtraction(Primitive leftHandSide, Primitive rightHandSide) {
+            this.leftHandSide = leftHandSide;
+            this.rightHandSide = rightHandSide;
+        }
+
+        @Override
+        long evaluate(NumericFrame frame) {
+            return leftHandSide.evaluate(frame) - rightHandSide.evaluate(frame);
+        }
+    }
+
+    static final class Identifier extends Primitive {
+        private final expression.Identifier identifier;
+        private final int slot;
+
+        Identifier(expression.Identifier identifier, int slot) {
+            this.identifier = identifier;
+            this.slot = slot;
+        }
+
+        @Override
+        long evaluate(NumericFrame frame) {
+            if (!frame.defined[slot]) {
+                throw notFound(identifier);
+            }
+            return frame.values[slot];
+        }
+    }
+
+    static final class Constant extends Primitive {
+        private final long value;
+
+        Constant(long value) {
+            this.value = value;
+        }
+
+        @Override
+        long evaluate(NumericFrame frame) {
+            return value;
+        }
+    }
+
+    /*!
+    Checked 32 Bits
+    ---------------
+
+    In the mode `CHECKED` all values are in the range of `int`, so their sum and difference computed with `long`s are
+    exact. The result overflows if it is not in the range of `int` anymore. A literal outside the range of `int` is
+    an `OutOfRange` expression, which raises the error only if it is evaluated.
+    */
+    static final class CheckedAddition extends Primitive {
+        private final expression.Addition addition;
+        private final Primitive leftHandSide;
+        private final Primitive rightHandSide;
+
+        CheckedAddition(expression.Addition addition, Primitive leftHandSide, Primitive rightHandSide) {
+            this.addition = addition;
+            this.leftHandSide = leftHandSide;
+            this.rightHandSide = rightHandSide;
+        }
+
+        @Override
+        long evaluate(NumericFrame frame) {
+            long left = leftHandSide.evaluate(frame);
+            long right = rightHandSide.evaluate(frame);
+            long result = left + right;
+            if (result != (int) result) {
+                throw new InterpreterException("Integer overflow: " + left + " + " + right + ".", addition);
+            }
+            return result;
+        }
+    }
+
+    static final class CheckedSubtraction extends Primitive {
+        private final expression.Subtraction subtraction;
+        private final Primitive leftHandSide;
+        private final Primitive rightHandSide;
+
+        CheckedSubtraction(expression.Subtraction subtraction, Primitive leftHandSide, Primitive rightHandSide) {
+            this.subtraction = subtraction;
+            this.leftHandSide = leftHandSide;
+            this.rightHandSide = rightHandSide;
+        }
+
+        @Override
+        long evaluate(NumericFrame frame) {
+            long left = leftHandSide.evaluate(frame);
+            long right = rightHandSide.evaluate(frame);
+            long result = left - right;
+            if (result != (int) result) {
+                throw new InterpreterException("Integer overflow: " + left + " - " + right + ".", subtraction);
+            }
+            return result;
+        }
+    }
+
+    static final class OutOfRange extends Primitive {
+        private final expression.Int integer;
+
+        OutOfRange(expression.Int integer) {
+            this.integer = integer;
+        }
+
+        @Override
+        long evaluate(NumericFrame frame) {
+            throw new InterpreterException("Integer overflow: " + integer.bigValue() + " is out of range.", integer);
+        }
+    }
+
+    /*!
+    Arbitrary Precision
+    -------------------
+    */
+    static final class BigAddition extends Big {
+        private final Big leftHandSide;
+        private final Big rightHandSide;
+
+        BigAddition(Big leftHandSide, Big rightHandSide) {
+            this.leftHandSide = leftHandSide;
+            this.rightHandSide = rightHandSide;
+        }
+
+        @Override
+        BigInteger evaluate(NumericFrame frame) {
+            return leftHandSide.evaluate(frame).add(rightHandSide.evaluate(frame));
+        }
+    }
+
+    static final class BigSubtraction extends Big {
+        private final Big leftHandSide;
+        private final Big rightHandSide;
+
+        BigSubtraction(Big leftHandSide, Big rightHandSide) {
+            this.leftHandSide = leftHandSide;
+            this.rightHandSide = rightHandSide;
+        }
+
+        @Override
+        BigInteger evaluate(NumericFrame frame) {
+            return leftHandSide.evaluate(frame).subtract(rightHandSide.evaluate(frame));
+        }
+    }
+
+    static final class BigIdentifier extends Big {
+        private final expression.Identifier identifier;
+        private final int slot;
+
+        BigIdentifier(expression.Identifier identifier, int slot) {
+            this.identifier = identifier;
+            this.slot = slot;
+        }
+
+        @Override
+        BigInteger evaluate(NumericFrame frame) {
+            if (!frame.defined[slot]) {
+                throw notFound(identifier);
+            }
+            return frame.bigValues[slot];
+        }
+    }
+
+    static final class BigConstant extends Big {
+        private final BigInteger value;
+
+        BigConstant(BigInteger value) {
+            this.value = value;
+        }
+
+        @Override
+        BigInteger evaluate(NumericFrame frame) {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*!! Interpreter */
+
+/*!
+NumericFrame
+============
+
+A `NumericFrame` stores the variable valuation of a program run by the
+[NumericInterpreter](${basePath}/src/main/java/interpreter/NumericInterpreter.java.html), just like the
+[Frame](${basePath}/src/main/java/interpreter/Frame.java.html) does for the `Interpreter`. The values are indexed by
+the [Slots](${basePath}/src/main/java/interpreter/Slots.java.html) of the variables.
+*/
+
+/*!- Header */
+package interpreter;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/*! The modes `INT32`, `INT64` and `CHECKED` store their values in the primitive array `values`. `CHECKED` only ever
+stores values in the range of `int` there, while `INT32` keeps the full `long`s and only truncates them when they are
+read with `getValuation`, as wrapping around in 64 bits keeps the lowest 32 bits exact. Only the mode `BIG_INTEGER`
+needs the array `bigValues` of objects. The array of the other kind is `null`. */
+final class NumericFrame {
+    final Slots slots;
+    final NumericMode mode;
+    final long[] values;
+    final BigInteger[] bigValues;
+    final boolean[] defined;
+    Budget budget = Limits.NONE.start();
+
+    NumericFrame(Slots slots, NumericMode mode) {
+        this.slots = slots;
+        this.mode = mode;
+        this.values = mode == NumericMode.BIG_INTEGER ? null : new long[slots.size()];
+        this.bigValues = mode == NumericMode.BIG_INTEGER ? new BigInteger[slots.size()] : null;
+        this.defined = new boolean[slots.size()];
+    }
+
+    /*! `reset` converts the values of the given `valuation` into the mode. In the mode `CHECKED` values outside the
+    range of `int` raise an `InterpreterException`. */
+    void reset(Map<String, ? extends Number> valuation) {
+        Arrays.fill(defined, false);
+        for (Map.Entry<String, ? extends Number> entry : valuation.entrySet()) {
+            int slot = slots.find(entry.getKey());
+            if (slot < 0) {
+                continue;
+            }
+            Number value = entry.getValue();
+            if (mode == NumericMode.BIG_INTEGER) {
+                bigValues[slot] = big(value);
+            } else if (mode == NumericMode.CHECKED) {
+                values[slot] = check(value);
+            } else {
+                values[slot] = value.longValue();
+            }
+            defined[slot] = true;
+        }
+    }
+
+    private static BigInteger big(Number value) {
+        return value instanceof BigInteger ? (BigInteger) value : BigInteger.valueOf(value.longValue());
+    }
+
+    /*! `check` returns the given value as `int` or raises an `InterpreterException` if it is out of range. */
+    private static int check(Number value) {
+        if (value instanceof BigInteger ? ((BigInteger) value).bitLength() >= 32
+                : value.longValue() != value.intValue()) {
+            throw new InterpreterException("Integer overflow: " + value + " is out of range.");
+        }
+        return value.intValue();
+    }
+
+    /*! `getValuation` translates the frame back into a map with `Integer`, `Long` or `BigInteger` values. */
+    Map<String, Number> getValuation() {
+        Map<String, Number> valuation = new HashMap<String, Number>();
+        for (int slot = 0; slot < defined.length; slot++) {
+            if (defined[slot]) {
+                Number value;
+                if (mode == NumericMode.BIG_INTEGER) {
+                    value = bigValues[slot];
+                } else if (mode == NumericMode.INT64) {
+                    value = values[slot];
+                } else {
+                    value = (int) values[slot];
+                }
+                valuation.put(slots.name(slot), value);
+            }
+        }
+        return valuation;
+    }
+}
@@ -0,0 +1,69 @@
+/*!! Interpreter */
+
+/*!
+NumericInterpreter
+==================
+
+The `NumericInterpreter` implements the semantic function `sem` described at the
+[Interpreter](${basePath}/src/main/java/interpreter/Interpreter.java.html) in one of the
+[NumericMode](${basePath}/src/main/java/interpreter/NumericMode.java.html)s. It runs the given `Program` in the
+constructor:
+
+    NumericInterpreter interpreter = new NumericInterpreter(program, NumericMode.BIG_INTEGER);
+    System.out.println(interpreter.getValuation());
+*/
+
+/*!- Header */
+package interpreter;
+
+import program.Program;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/*! The mode `INT32` is exactly the semantics of the `Interpreter`, so it is run by a
+[PreparedProgram](${basePath}/src/main/java/interpreter/PreparedProgram.java.html) with all of its optimizations. The
+other modes are resolved by the [NumericResolver](${basePath}/src/main/java/interpreter/NumericResolver.java.html) and
+run on a [NumericFrame](${basePath}/src/main/java/interpreter/NumericFrame.java.html), which stores primitive `long`s
+in the modes `INT64` and `CHECKED`. The optimizer is not used for these modes, as it computes with `int`s. */
+public class NumericInterpreter {
+    private final Map<String, Number> valuation;
+
+    public Map<String, Number> getValuation() {
+        return valuation;
+    }
+
+    public NumericInterpreter(Program program, NumericMode mode) {
+        this(program, Collections.<String, Number>emptyMap(), mode);
+    }
+
+    /*! The values of the initial `valuation` are converted into the mode first. */
+    public NumericInterpreter(Program program, Map<String, ? extends Number> valuation, NumericMode mode) {
+        this(program, valuation, mode, Limits.NONE);
+    }
+
+    /*! The run can be restricted by [Limits](${basePath}/src/main/java/interpreter/Limits.java.html). If they are
+    exceeded, a `LimitExceededException` is raised, which contains the values of the mode. */
+    public NumericInterpreter(Program program, Map<String, ? extends Number> valuation, NumericMode mode,
+                              Limits limits) {
+        if (mode == NumericMode.INT32) {
+            Map<String, Integer> initial = new HashMap<String, Integer>();
+            for (Map.Entry<String, ? extends Number> entry : valuation.entrySet()) {
+                initial.put(entry.getKey(), entry.getValue().intValue());
+            }
+            this.valuation = new HashMap<String, Number>(new PreparedProgram(program, limits).run(initial));
+        } else {
+            Slots slots = new Slots();
+            NumericProgram resolved = new NumericResolver(slots, mode).resolve(program);
+            for (String name : valuation.keySet()) {
+                slots.slot(name);
+            }
+            NumericFrame frame = new NumericFrame(slots, mode);
+            frame.reset(valuation);
+            frame.budget = limits.start();
+            resolved.execute(frame);
+            this.valuation = frame.getValuation();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+/*!! Interpreter */
+
+/*!
+NumericMode
+===========
+
+The `Interpreter` computes with Java `int`s, so additions and subtractions silently wrap around on overflow. The
+`NumericMode` selects how the [NumericEvaluator](${basePath}/src/main/java/interpreter/NumericEvaluator.java.html) and
+the [NumericInterpreter](${basePath}/src/main/java/interpreter/NumericInterpreter.java.html) compute instead:
+
+- `INT32` wraps around in 32 bits exactly like the `Interpreter`,
+- `INT64` wraps around in 64 bits,
+- `CHECKED` computes with 32 bits and raises an `InterpreterException` on overflow and
+- `BIG_INTEGER` computes with arbitrarily large integers, so the results are always correct.
+*/
+
+/*!- Header */
+package interpreter;
+
+public enum NumericMode {
+    INT32, INT64, CHECKED, BIG_INTEGER
+}
@@ -0,0 +1,107 @@
+/*!! Interpreter */
+
+/*!
+NumericProgram
+==============
+
+A `NumericProgram` is the counterpart of the [ResolvedProgram](${basePath}/src/main/java/interpreter/ResolvedProgram.java.html)
+for the [NumericInterpreter](${basePath}/src/main/java/interpreter/NumericInterpreter.java.html). It implements the
+semantic function `sem` on a [NumericFrame](${basePath}/src/main/java/interpreter/NumericFrame.java.html).
+*/
+
+/*!- Header */
+package interpreter;
+
+/*! Only assignments depend on the mode. A `Composition` is resolved to a `Block` of its two programs. */
+abstract class NumericProgram {
+    abstract void execute(NumericFrame frame);
+
+    static final class Assignment extends NumericProgram {
+        private final int slot;
+        private final NumericExpression.Primitive expression;
+
+        Assignment(int slot, NumericExpression.Primitive expression) {
+            this.slot = slot;
+            this.expression = expression;
+        }
+
+        @Override
+        void execute(NumericFrame frame) {
+            frame.values[slot] = expression.evaluate(frame);
+            frame.defined[slot] = true;
+        }
+    }
+
+    static final class BigAssignment extends NumericProgram {
+        private final int slot;
+        private final NumericExpression.Big expression;
+
+        BigAssignment(int slot, NumericExpression.Big expression) {
+            this.slot = slot;
+            this.expression = expression;
+        }
+
+        @Override
+        void execute(NumericFrame frame) {
+            frame.bigValues[slot] = expression.evaluate(frame);
+            frame.defined[slot] = true;
+        }
+    }
+
+    static final class Block extends NumericProgram {
+        private final NumericProgram[] statements;
+
+        Block(NumericProgram... statements) {
+            this.statements = statements;
+        }
+
+        @Override
+        void execute(NumericFrame frame) {
+            for (NumericProgram statement : statements) {
+                statement.execute(frame);
+            }
+        }
+    }
+
+    static final class Conditional extends NumericProgram {
+        private final NumericExpression condition;
+        private final NumericProgram thenCase;
+        private final NumericProgram elseCase;
+
+        Conditional(NumericExpression condition, NumericProgram thenCase, NumericProgram elseCase) {
+            this.condition = condition;
+            this.thenCase = thenCase;
+            this.elseCase = elseCase;
+        }
+
+        @Override
+        void execute(NumericFrame frame) {
+            if (condition.test(frame)) {
+                thenCase.execute(frame);
+            } else {
+                elseCase.execute(frame);
+            }
+        }
+    }
+
+    /*! Every iteration counts one step of the `budget` of the frame, exactly like the loops of all other engines. */
+    static final class Loop extends NumericProgram {
+        private final NumericExpression condition;
+        private final NumericProgram program;
+
+        Loop(NumericExpression condition, NumericProgram program) {
+            this.condition = condition;
+            this.program = program;
+        }
+
+        @Override
+        void execute(NumericFrame frame) {
+            while (condition.test(frame)) {
+                if (frame.budget.step()) {
+                    throw frame.budget.exceeded(frame.getValuation());
+                }
+                program.execute(frame);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*!! Interpreter */
+
+/*!
+NumericResolver
+===============
+
+The `NumericResolver` translates a `Program` into a
+[NumericProgram](${basePath}/src/main/java/interpreter/NumericProgram.java.html) for one of the modes `INT64`,
+`CHECKED` and `BIG_INTEGER`, just like the [Resolver](${basePath}/src/main/java/interpreter/Resolver.java.html) does
+for the `Interpreter`. Every distinct variable name gets a slot of the given
+[Slots](${basePath}/src/main/java/interpreter/Slots.java.html).
+*/
+
+/*!- Header */
+package interpreter;
+
+import expression.*;
+import program.*;
+
+/*! The mode is decided once while resolving, so the resolved program only contains the nodes of its mode and never
+checks the mode while running. The mode `INT32` is resolved exactly like `INT64`. The
+[NumericEvaluator](${basePath}/src/main/java/interpreter/NumericEvaluator.java.html) only truncates the result. */
+class NumericResolver implements ProgramVisitor<NumericProgram>, ExpressionVisitor<NumericExpression> {
+    private final Slots slots;
+    private final NumericMode mode;
+
+    NumericResolver(Slots slots, NumericMode mode) {
+        this.slots = slots;
+        this.mode = mode;
+    }
+
+    NumericProgram resolve(Program program) {
+        return program.accept(this);
+    }
+
+    NumericExpression resolve(Expression expression) {
+        return expression.accept(this);
+    }
+
+    public NumericProgram visitAssignment(Assignment assignment) {
+        int slot = slots.slot(assignment.identifier.name);
+        NumericExpression expression = assignment.expression.accept(this);
+        if (mode == NumericMode.BIG_INTEGER) {
+            return new NumericProgram.BigAssignment(slot, (NumericExpression.Big) expression);
+        }
+        return new NumericProgram.Assignment(slot, (NumericExpression.Primitive) expression);
+    }
+
+    public NumericProgram visitBlock(Block block) {
+        NumericProgram[] statements = new NumericProgram[block.statements.length];
+        for (int i = 0; i < statements.length; i++) {
+            statements[i] = block.statements[i].accept(this);
+        }
+        return new NumericProgram.Block(statements);
+    }
+
+    public NumericProgram visitComposition(Composition composition) {
+        return new NumericProgram.Block(composition.first.accept(this), composition.second.accept(this));
+    }
+
+    public NumericProgram visitConditional(Conditional conditional) {
+        return new NumericProgram.Conditional(conditional.condition.accept(this), conditional.thenCase.accept(this),
+                conditional.elseCase.accept(this));
+    }
+
+    public NumericProgram visitLoop(Loop loop) {
+        return new NumericProgram.Loop(loop.condition.accept(this), loop.program.accept(this));
+    }
+
+    public NumericExpression visitAddition(Addition addition) {
+        NumericExpression leftHandSide = addition.leftHandSide.accept(this);
+        NumericExpression rightHandSide = addition.rightHandSide.accept(this);
+        switch (mode) {
+            case BIG_INTEGER:
+                return new NumericExpression.BigAddition((NumericExpression.Big) leftHandSide,
+                        (NumericExpression.Big) rightHandSide);
+            case CHECKED:
+                return new NumericExpression.CheckedAddition(addition, (NumericExpression.Primitive) leftHandSide,
+                        (NumericExpression.Primitive) rightHandSide);
+            default:
+                return new NumericExpression.Addition((NumericExpression.Primitive) leftHandSide,
+                        (NumericExpression.Primitive) rightHandSide);
+        }
+    }
+
+    public NumericExpression visitSubtraction(Subtraction subtraction) {
+        NumericExpression leftHandSide = subtraction.leftHandSide.accept(this);
+        NumericExpression rightHandSide = subtraction.rightHandSide.accept(this);
+        switch (mode) {
+            case BIG_INTEGER:
+                return new NumericExpression.BigSubtraction((NumericExpression.Big) leftHandSide,
+                        (NumericExpression.Big) rightHandSide);
+            case CHECKED:
+                return new NumericExpression.CheckedSubtraction(subtraction,
+                        (NumericExpression.Primitive) leftHandSide, (NumericExpression.Primitive) rightHandSide);
+            default:
+                return new NumericExpression.Subtraction((NumericExpression.Primitive) leftHandSide,
+                        (NumericExpression.Primitive) rightHandSide);
+        }
+    }
+
+    public NumericExpression visitIdentifier(Identifier identifier) {
+        int slot = slots.slot(identifier.name);
+        if (mode == NumericMode.BIG_INTEGER) {
+            return new NumericExpression.BigIdentifier(identifier, slot);
+        }
+        return new NumericExpression.Identifier(identifier, slot);
+    }
+
+    /*! Literals outside the range of `long` keep their lowest 64 bits in the mode `INT64`, just like the results of
+    the arithmetic. */
+    public NumericExpression visitInt(Int integer) {
+        switch (mode) {
+            case BIG_INTEGER:
+                return new NumericExpression.BigConstant(integer.bigValue());
+            case CHECKED:
+                return integer.isInt() ? new NumericExpression.Constant(integer.value)
+                        : new NumericExpression.OutOfRange(integer);
+            default:
+                return new NumericExpression.Constant(integer.longValue());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*!! Interpreter */
+
+/*!
+PreparedProgram
+===============
+
+A `PreparedProgram` runs the same `Program` on many different initial valuations. The program is optimized and
+resolved only once, so running it again only costs the execution itself:
+
+    PreparedProgram prepared = new PreparedProgram(new Parser("r := 0 ; while (a) { r := r + b ; a := a - 1 }").parse());
+    Map<String, Integer> inputs = new HashMap<String, Integer>();
+    inputs.put("a", 6);
+    inputs.put("b", 7);
+    System.out.println(prepared.run(inputs).get("r"));
+
+A list of initial valuations can be run at once, optionally spread over several threads with `runAll`.
+*/
+
+/*!- Header */
+package interpreter;
+
+import optimizer.Optimizer;
+import program.Program;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/*! After the constructor the `slots` and the `resolved` program are never changed, so a `PreparedProgram` can be run
+by several threads at the same time. Every run needs a [Frame](${basePath}/src/main/java/interpreter/Frame.java.html)
+of its own. */
+public final class PreparedProgram {
+    private final Slots slots = new Slots();
+    private final ResolvedProgram resolved;
+    private final Limits limits;
+
+    public PreparedProgram(Program program) {
+        this(program, Limits.NONE);
+    }
+
+    /*! Every run is restricted by the given [Limits](${basePath}/src/main/java/interpreter/Limits.java.html). */
+    public PreparedProgram(Program program, Limits limits) {
+        this.resolved = new Resolver(slots).resolve(new Optimizer().optimize(program));
+        this.limits = limits;
+    }
+
+    /*! Runs the program starting with the given `valuation` and returns the final valuation. The given map is not
+    changed. */
+    public Map<String, Integer> run(Map<String, Integer> valuation) {
+        return run(new Frame(slots), valuation);
+    }
+
+    /*! Variables of the initial valuation that the program does not use keep their values and are part of the final
+    valuation as well. */
+    private Map<String, Integer> run(Frame frame, Map<String, Integer> valuation) {
+        frame.reset(valuation);
+        frame.budget = limits.start();
+        resolved.execute(frame);
+        Map<String, Integer> result = frame.getValuation();
+        for (Map.Entry<String, Integer> entry : valuation.entrySet()) {
+            if (slots.find(entry.getKey()) < 0) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    /*! Runs the program once for every initial valuation and returns the final valuations in the same order. All runs
+    reuse the same frame. */
+    public List<Map<String, Integer>> runAll(List<Map<String, Integer>> valuations) {
+        Frame frame = new Frame(slots);
+        List<Map<String, Integer>> results = new ArrayList<Map<String, Integer>>(valuations.size());
+        for (Map<String, Integer> valuation : valuations) {
+            results.add(run(frame, valuation));
+        }
+        return results;
+    }
+
+    /*! Spreads the runs over the given number of `threads`. Every thread runs a consecutive part of the `valuations`
+    on a frame of its own. If a run raises an `InterpreterException`, it is raised by `runAll`. */
+    public List<Map<String, Integer>> runAll(final List<Map<String, Integer>> valuations, int threads) {
+        if (threads <= 1) {
+            return runAll(valuations);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<Map<String, Integer>>>> futures = new ArrayList<Future<List<Map<String, Integer>>>>();
+            int size = (valuations.size() + threads - 1) / threads;
+            for (int start = 0; start < valuations.size(); start += size) {
+                final int from = start;
+                final int to = Math.min(start + size, valuations.size());
+                futures.add(executor.submit(new Callable<List<Map<String, Integer>>>() {
+                    public List<Map<String, Integer>> call() {
+                        return runAll(valuations.subList(from, to));
+                    }
+                }));
+            }
+            List<Map<String, Integer>> results = new ArrayList<Map<String, Integer>>(valuations.size());
+            for (Future<List<Map<String, Integer>>> future : futures) {
+                results.addAll(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
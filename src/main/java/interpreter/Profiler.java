@@ -0,0 +1,100 @@
+/*!! Interpreter */
+
+/*!
+Profiler
+========
+
+The `Profiler` runs a `Program` like the [Interpreter](${basePath}/src/main/java/interpreter/Interpreter.java.html)
+and counts how often every statement is executed: every assignment, every conditional together with each of its two
+cases and every loop together with the iterations of its body. Optionally it measures the time spent in every
+statement as well:
+
+    Profiler profiler = new Profiler(new Parser("r := 0 ; while (a) { r := r + b ; a := a - 1 }").parse(), true);
+    profiler.run(inputs);
+    System.out.println(new ProfilePrinter(profiler).print(program));
+
+The [ProfilePrinter](${basePath}/src/main/java/printer/ProfilePrinter.java.html) prints the counts next to the source
+code or as JSON.
+*/
+
+/*!- Header */
+package interpreter;
+
+import program.Conditional;
+import program.Loop;
+import program.Program;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/*! The counts refer to the statements of the given program, so the program is neither optimized nor are loops run
+in closed form (see [LinearLoop](${basePath}/src/main/java/optimizer/LinearLoop.java.html)). The
+[Resolver](${basePath}/src/main/java/interpreter/Resolver.java.html) wraps every statement in a
+`ResolvedProgram.Probe`, which is stored here with the statement as key. Statements are compared by identity, as
+equal statements at different places of the program are counted separately.
+
+All runs add to the same counts. If a run raises an `InterpreterException`, the counts up to this point are kept. */
+public final class Profiler {
+    private final Slots slots = new Slots();
+    private final ResolvedProgram resolved;
+    final boolean timing;
+
+    final Map<Program, ResolvedProgram.Probe> statements = new IdentityHashMap<Program, ResolvedProgram.Probe>();
+    final Map<Program, ResolvedProgram.Probe> thenCases = new IdentityHashMap<Program, ResolvedProgram.Probe>();
+    final Map<Program, ResolvedProgram.Probe> elseCases = new IdentityHashMap<Program, ResolvedProgram.Probe>();
+    final Map<Program, ResolvedProgram.Probe> iterations = new IdentityHashMap<Program, ResolvedProgram.Probe>();
+
+    public Profiler(Program program) {
+        this(program, false);
+    }
+
+    public Profiler(Program program, boolean timing) {
+        this.timing = timing;
+        this.resolved = new Resolver(slots, this).resolve(program);
+    }
+
+    public boolean isTiming() {
+        return timing;
+    }
+
+    /*! Runs the program starting with the given `valuation` and returns the final valuation. */
+    public Map<String, Integer> run(Map<String, Integer> valuation) {
+        Frame frame = new Frame(slots);
+        frame.reset(valuation);
+        resolved.execute(frame);
+        return frame.getValuation();
+    }
+
+    /*! `count` returns how often the given assignment, conditional or loop has been executed. It returns `0` for
+    statements that are not part of the program and for blocks and compositions, which are not counted. */
+    public long count(Program statement) {
+        return count(statements.get(statement));
+    }
+
+    public long thenCount(Conditional conditional) {
+        return count(thenCases.get(conditional));
+    }
+
+    public long elseCount(Conditional conditional) {
+        return count(elseCases.get(conditional));
+    }
+
+    public long iterations(Loop loop) {
+        return count(iterations.get(loop));
+    }
+
+    private static long count(ResolvedProgram.Probe probe) {
+        return probe == null ? 0 : probe.count;
+    }
+
+    /*! `nanos` estimates the time spent in the given statement, including all statements nested in it, in
+    nanoseconds. As only some executions are measured, the measured time is scaled up to all executions. Without
+    `timing` the result is always `0`. */
+    public long nanos(Program statement) {
+        ResolvedProgram.Probe probe = statements.get(statement);
+        if (probe == null || probe.samples == 0) {
+            return 0;
+        }
+        return (long) ((double) probe.nanos * probe.count / probe.samples);
+    }
+}
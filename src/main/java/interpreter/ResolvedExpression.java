@@ -0,0 +1,98 @@
+/*!! Interpreter */
+
+/*!
+ResolvedExpression
+==================
+
+A `ResolvedExpression` is an `Expression` in which every identifier has been replaced by the slot of the variable.
+It is created by the [Resolver](${basePath}/src/main/java/interpreter/Resolver.java.html) and implements the
+evaluation function `eval` described at the [Evaluator](${basePath}/src/main/java/interpreter/Evaluator.java.html) on
+a [Frame](${basePath}/src/main/java/interpreter/Frame.java.html) instead of a map.
+*/
+
+/*!- Header */
+package interpreter;
+
+/*! Every resolved expression computes its value directly as primitive `int`, without any visitor and without boxing.
+There is one subclass for every kind of `Expression`. */
+abstract class ResolvedExpression {
+    abstract int evaluate(Frame frame);
+
+    /*!
+        eval(e1 "+" e2, v) = eval(e1, v) + eval(e2, v)
+    */
+    static final class Addition extends ResolvedExpression {
+        private final ResolvedExpression leftHandSide;
+        private final ResolvedExpression rightHandSide;
+
+        Addition(ResolvedExpression leftHandSide, ResolvedExpression rightHandSide) {
+            this.leftHandSide = leftHandSide;
+            this.rightHandSide = rightHandSide;
+        }
+
+        @Override
+        int evaluate(Frame frame) {
+            return leftHandSide.evaluate(frame) + rightHandSide.evaluate(frame);
+        }
+    }
+
+    /*!
+        eval(e1 "-" e2, v) = eval(e1, v) - eval(e2, v)
+    */
+    static final class Subtraction extends ResolvedExpression {
+        private final ResolvedExpression leftHandSide;
+        private final ResolvedExpression rightHandSide;
+
+        Subtraction(ResolvedExpression leftHandSide, ResolvedExpression rightHandSide) {
+            this.leftHandSide = leftHandSide;
+            this.rightHandSide = rightHandSide;
+        }
+
+        @Override
+        int evaluate(Frame frame) {
+            return leftHandSide.evaluate(frame) - rightHandSide.evaluate(frame);
+        }
+    }
+
+    /*!
+        eval(x, v) = v(x)
+    */
+    static final class Identifier extends ResolvedExpression {
+        private final expression.Identifier identifier;
+        private final int slot;
+
+        Identifier(expression.Identifier identifier, int slot) {
+            this.identifier = identifier;
+            this.slot = slot;
+        }
+
+        @Override
+        int evaluate(Frame frame) {
+            /*! The `identifier` is only needed for the error if the variable has not been assigned yet. */
+            if (!frame.defined[slot]) {
+                throw notFound(identifier);
+            }
+            return frame.values[slot];
+        }
+
+        static InterpreterException notFound(expression.Identifier identifier) {
+            return new InterpreterException("Identifier " + identifier.name + " not found.", identifier);
+        }
+    }
+
+    /*!
+        eval(z, v) = z
+    */
+    static final class Int extends ResolvedExpression {
+        private final int value;
+
+        Int(int value) {
+            this.value = value;
+        }
+
+        @Override
+        int evaluate(Frame frame) {
+            return value;
+        }
+    }
+}
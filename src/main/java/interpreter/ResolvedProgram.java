@@ -0,0 +1,305 @@
+/*!! Interpreter */
+
+/*!
+ResolvedProgram
+===============
+
+A `ResolvedProgram` is a `Program` in which every identifier has been replaced by the slot of the variable. It is
+created by the [Resolver](${basePath}/src/main/java/interpreter/Resolver.java.html) and implements the semantic
+function `sem` described at the [Interpreter](${basePath}/src/main/java/interpreter/Interpreter.java.html) on a
+[Frame](${basePath}/src/main/java/interpreter/Frame.java.html).
+*/
+
+/*!- Header */
+package interpreter;
+
+/*! The semantic function `sem` passes along the variable valuation `v`. Here the valuation is the `frame`, which is
+updated in place. Because of the in-order execution the frame always represents the state of the `v` passed to the
+semantic function `sem`. There is one subclass for every kind of `Program`. */
+abstract class ResolvedProgram {
+    abstract void execute(Frame frame);
+
+    /*!
+        sem(x ":=" e, v) = v.update(x, eval(e, v))
+    */
+    static final class Assignment extends ResolvedProgram {
+        private final int slot;
+        private final ResolvedExpression expression;
+
+        Assignment(int slot, ResolvedExpression expression) {
+            this.slot = slot;
+            this.expression = expression;
+        }
+
+        @Override
+        void execute(Frame frame) {
+            frame.values[slot] = expression.evaluate(frame);
+            frame.defined[slot] = true;
+        }
+    }
+
+    /*!
+        sem(c1 ";" c2) = sem(c2, sem(c1, v))
+    */
+    static final class Composition extends ResolvedProgram {
+        private final ResolvedProgram first;
+        private final ResolvedProgram second;
+
+        Composition(ResolvedProgram first, ResolvedProgram second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        void execute(Frame frame) {
+            first.execute(frame);
+            second.execute(frame);
+        }
+    }
+
+    /*! A `Block` is the composition of all its statements, which are executed one after another. */
+    static final class Block extends ResolvedProgram {
+        private final ResolvedProgram[] statements;
+
+        Block(ResolvedProgram[] statements) {
+            this.statements = statements;
+        }
+
+        @Override
+        void execute(Frame frame) {
+            for (ResolvedProgram statement : statements) {
+                statement.execute(frame);
+            }
+        }
+    }
+
+    /*!
+        sem("if" "(" e ")" "then" "{" c1 "}" else "{" c2 "}") =
+          sem(c1, v)    if eval(e, v) != 0
+          sem(c2, v)    else
+    */
+    static final class Conditional extends ResolvedProgram {
+        private final ResolvedExpression condition;
+        private final ResolvedProgram thenCase;
+        private final ResolvedProgram elseCase;
+
+        Conditional(ResolvedExpression condition, ResolvedProgram thenCase, ResolvedProgram elseCase) {
+            this.condition = condition;
+            this.thenCase = thenCase;
+            this.elseCase = elseCase;
+        }
+
+        @Override
+        void execute(Frame frame) {
+            if (condition.evaluate(frame) != 0) {
+                thenCase.execute(frame);
+            } else {
+                elseCase.execute(frame);
+            }
+        }
+    }
+
+    /*!
+        sem("while" "(" e ")" "{" c "}", v) =
+          sem(c ";" "while" "(" e ")" "{" c "}", v)   if eval(e, v) != 0
+          v                                           else
+
+    Implementing this rule literally, by executing the composition of `c` and the loop itself, would add a couple of
+    stack frames for every single iteration. Long running loops would then die with a `StackOverflowError`. As the loop
+    is the last thing the rule does (the rule is _tail recursive_), we can replace the recursion with a Java `while`
+    loop that runs in constant stack depth.
+
+    Every iteration counts one step of the `budget` of the frame, which stops the loop if the
+    [Limits](${basePath}/src/main/java/interpreter/Limits.java.html) of the run are exceeded.
+    */
+    static final class Loop extends ResolvedProgram {
+        private final ResolvedExpression condition;
+        private final ResolvedProgram program;
+
+        Loop(ResolvedExpression condition, ResolvedProgram program) {
+            this.condition = condition;
+            this.program = program;
+        }
+
+        @Override
+        void execute(Frame frame) {
+            while (condition.evaluate(frame) != 0) {
+                if (frame.budget.step()) {
+                    throw frame.budget.exceeded(frame.getValuation());
+                }
+                program.execute(frame);
+            }
+        }
+    }
+
+    /*!
+    Superinstructions
+    -----------------
+
+    Most statements of typical loop bodies have one of a few simple shapes. The `Resolver` translates them into the
+    following _superinstructions_, which do the work of a whole statement in a single node. Instead of calling
+    `evaluate` on an expression tree, they read and write the slots directly. Reading a variable that has not been
+    assigned raises the same `InterpreterException` as the `ResolvedExpression.Identifier` would.
+
+    An `Increment` executes `x := x + c` and `x := x - c`, the latter with the constant `-c`.
+    */
+    static final class Increment extends ResolvedProgram {
+        private final expression.Identifier identifier;
+        private final int slot;
+        private final int constant;
+
+        Increment(expression.Identifier identifier, int slot, int constant) {
+            this.identifier = identifier;
+            this.slot = slot;
+            this.constant = constant;
+        }
+
+        @Override
+        void execute(Frame frame) {
+            if (!frame.defined[slot]) {
+                throw ResolvedExpression.Identifier.notFound(identifier);
+            }
+            frame.values[slot] += constant;
+        }
+    }
+
+    /*! `AddSlots` executes `x := y + z`. */
+    static final class AddSlots extends ResolvedProgram {
+        private final int slot;
+        private final expression.Identifier leftHandSide;
+        private final int leftSlot;
+        private final expression.Identifier rightHandSide;
+        private final int rightSlot;
+
+        AddSlots(int slot, expression.Identifier leftHandSide, int leftSlot, expression.Identifier rightHandSide,
+                 int rightSlot) {
+            this.slot = slot;
+            this.leftHandSide = leftHandSide;
+            this.leftSlot = leftSlot;
+            this.rightHandSide = rightHandSide;
+            this.rightSlot = rightSlot;
+        }
+
+        @Override
+        void execute(Frame frame) {
+            if (!frame.defined[leftSlot]) {
+                throw ResolvedExpression.Identifier.notFound(leftHandSide);
+            }
+            if (!frame.defined[rightSlot]) {
+                throw ResolvedExpression.Identifier.notFound(rightHandSide);
+            }
+            frame.values[slot] = frame.values[leftSlot] + frame.values[rightSlot];
+            frame.defined[slot] = true;
+        }
+    }
+
+    /*! A `CounterLoop` is a `Loop` whose condition is a single variable, like `while (a)`. */
+    static final class CounterLoop extends ResolvedProgram {
+        private final expression.Identifier counter;
+        private final int slot;
+        private final ResolvedProgram program;
+
+        CounterLoop(expression.Identifier counter, int slot, ResolvedProgram program) {
+            this.counter = counter;
+            this.slot = slot;
+            this.program = program;
+        }
+
+        @Override
+        void execute(Frame frame) {
+            while (true) {
+                if (!frame.defined[slot]) {
+                    throw ResolvedExpression.Identifier.notFound(counter);
+                }
+                if (frame.values[slot] == 0) {
+                    return;
+                }
+                if (frame.budget.step()) {
+                    throw frame.budget.exceeded(frame.getValuation());
+                }
+                program.execute(frame);
+            }
+        }
+    }
+
+    /*! A loop recognized as [LinearLoop](${basePath}/src/main/java/optimizer/LinearLoop.java.html) is run by
+    executing the first iteration as usual. This raises the same `InterpreterException` as the usual loop if the
+    body reads a variable that has not been assigned. Afterwards the counter tells the number of `remaining`
+    iterations and the final values of all variables are computed directly. If the remaining iterations would exceed
+    the step limit, the loop runs iteration by iteration instead, in order to stop at the same step as the usual
+    loop. */
+    static final class LinearLoop extends ResolvedProgram {
+        private final ResolvedExpression condition;
+        private final ResolvedProgram program;
+        private final int counter;
+        private final int step;
+        private final int[] variables;
+        private final ResolvedExpression[] increments;
+
+        LinearLoop(ResolvedExpression condition, ResolvedProgram program, int counter, int step, int[] variables,
+                   ResolvedExpression[] increments) {
+            this.condition = condition;
+            this.program = program;
+            this.counter = counter;
+            this.step = step;
+            this.variables = variables;
+            this.increments = increments;
+        }
+
+        @Override
+        void execute(Frame frame) {
+            if (condition.evaluate(frame) != 0) {
+                if (frame.budget.step()) {
+                    throw frame.budget.exceeded(frame.getValuation());
+                }
+                program.execute(frame);
+                int remaining = step < 0 ? frame.values[counter] : -frame.values[counter];
+                if (frame.budget.skip(remaining & 0xffffffffL)) {
+                    for (int i = 0; i < variables.length; i++) {
+                        frame.values[variables[i]] += remaining * increments[i].evaluate(frame);
+                    }
+                    frame.values[counter] = 0;
+                } else {
+                    while (condition.evaluate(frame) != 0) {
+                        if (frame.budget.step()) {
+                            throw frame.budget.exceeded(frame.getValuation());
+                        }
+                        program.execute(frame);
+                    }
+                }
+            }
+        }
+    }
+
+    /*! A `Probe` is only created by the [Profiler](${basePath}/src/main/java/interpreter/Profiler.java.html). It
+    counts how often the wrapped `program` is executed. If `timing` is enabled, every 64th execution is measured with
+    `System.nanoTime()`, which is far too expensive to call for every single statement. Without a profiler the
+    `Resolver` creates no probes at all, so usual runs do not pay for counting. */
+    static final class Probe extends ResolvedProgram {
+        private static final long SAMPLE_MASK = 63;
+
+        private final ResolvedProgram program;
+        private final boolean timing;
+        long count;
+        long samples;
+        long nanos;
+
+        Probe(ResolvedProgram program, boolean timing) {
+            this.program = program;
+            this.timing = timing;
+        }
+
+        @Override
+        void execute(Frame frame) {
+            count += 1;
+            if (timing && (count & SAMPLE_MASK) == 1) {
+                long start = System.nanoTime();
+                program.execute(frame);
+                nanos += System.nanoTime() - start;
+                samples += 1;
+            } else {
+                program.execute(frame);
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*!! Interpreter */
+
+/*!
+Resolver
+========
+
+The `Resolver` is the first phase of the `Interpreter`. It runs once over the whole `Program`, gives every distinct
+variable name a slot (see [Slots](${basePath}/src/main/java/interpreter/Slots.java.html)) and translates the program
+into a [ResolvedProgram](${basePath}/src/main/java/interpreter/ResolvedProgram.java.html), which only refers to the
+slots. Names are hashed during this pass only and never again while the program is running.
+*/
+
+/*!- Header */
+package interpreter;
+
+import expression.*;
+import optimizer.LinearLoop;
+import program.*;
+
+import java.util.Map;
+
+/*! The `Resolver` is implemented as visitor of both programs and expressions. Every `visit` method returns the
+resolved version of the visited node. */
+class Resolver implements ProgramVisitor<ResolvedProgram>, ExpressionVisitor<ResolvedExpression> {
+    private final Slots slots;
+    private final Profiler profiler;
+
+    Resolver(Slots slots) {
+        this(slots, null);
+    }
+
+    /*! If a [Profiler](${basePath}/src/main/java/interpreter/Profiler.java.html) is given, every statement, every
+    case of a conditional and the body of every loop is wrapped in a probe counting its executions. */
+    Resolver(Slots slots, Profiler profiler) {
+        this.slots = slots;
+        this.profiler = profiler;
+    }
+
+    ResolvedProgram resolve(Program program) {
+        return program.accept(this);
+    }
+
+    public ResolvedProgram visitAssignment(Assignment assignment) {
+        int slot = slots.slot(assignment.identifier.name);
+        ResolvedProgram resolved = fuse(assignment.identifier, slot, assignment.expression);
+        if (resolved == null) {
+            resolved = new ResolvedProgram.Assignment(slot, assignment.expression.accept(this));
+        }
+        return probe(profiler == null ? null : profiler.statements, assignment, resolved);
+    }
+
+    /*! `fuse` returns the superinstruction (see
+    [ResolvedProgram](${basePath}/src/main/java/interpreter/ResolvedProgram.java.html)) executing the assignment of
+    the `expression` to the variable `target` or `null` if the assignment has none of the following shapes:
+
+        x := x + c    x := c + x    x := x - c    x := y + z
+    */
+    private ResolvedProgram fuse(Identifier target, int slot, Expression expression) {
+        if (expression instanceof Addition) {
+            Addition addition = (Addition) expression;
+            if (addition.leftHandSide instanceof Identifier && addition.rightHandSide instanceof Identifier) {
+                Identifier leftHandSide = (Identifier) addition.leftHandSide;
+                Identifier rightHandSide = (Identifier) addition.rightHandSide;
+                return new ResolvedProgram.AddSlots(slot, leftHandSide, slots.slot(leftHandSide.name),
+                        rightHandSide, slots.slot(rightHandSide.name));
+            }
+            if (target.equals(addition.leftHandSide) && addition.rightHandSide instanceof Int) {
+                return new ResolvedProgram.Increment((Identifier) addition.leftHandSide, slot,
+                        ((Int) addition.rightHandSide).value);
+            }
+            if (addition.leftHandSide instanceof Int && target.equals(addition.rightHandSide)) {
+                return new ResolvedProgram.Increment((Identifier) addition.rightHandSide, slot,
+                        ((Int) addition.leftHandSide).value);
+            }
+        } else if (expression instanceof Subtraction) {
+            Subtraction subtraction = (Subtraction) expression;
+            if (target.equals(subtraction.leftHandSide) && subtraction.rightHandSide instanceof Int) {
+                return new ResolvedProgram.Increment((Identifier) subtraction.leftHandSide, slot,
+                        -((Int) subtraction.rightHandSide).value);
+            }
+        }
+        return null;
+    }
+
+    public ResolvedProgram visitBlock(Block block) {
+        ResolvedProgram[] statements = new ResolvedProgram[block.statements.length];
+        for (int i = 0; i < statements.length; i++) {
+            statements[i] = block.statements[i].accept(this);
+        }
+        return new ResolvedProgram.Block(statements);
+    }
+
+    public ResolvedProgram visitComposition(Composition composition) {
+        return new ResolvedProgram.Composition(composition.first.accept(this), composition.second.accept(this));
+    }
+
+    public ResolvedProgram visitConditional(Conditional conditional) {
+        if (profiler == null) {
+            return new ResolvedProgram.Conditional(conditional.condition.accept(this),
+                    conditional.thenCase.accept(this), conditional.elseCase.accept(this));
+        }
+        return probe(profiler.statements, conditional, new ResolvedProgram.Conditional(
+                conditional.condition.accept(this),
+                probe(profiler.thenCases, conditional, conditional.thenCase.accept(this)),
+                probe(profiler.elseCases, conditional, conditional.elseCase.accept(this))));
+    }
+
+    /*! Loops that can be run without iterating (see [LinearLoop](${basePath}/src/main/java/optimizer/LinearLoop.java.html))
+    are resolved to a `ResolvedProgram.LinearLoop`. All other loops run iteration by iteration. While profiling, every
+    loop runs iteration by iteration in order to count the iterations. Other loops testing a single variable are
+    resolved to the superinstruction `ResolvedProgram.CounterLoop`. */
+    public ResolvedProgram visitLoop(Loop loop) {
+        ResolvedExpression condition = loop.condition.accept(this);
+        ResolvedProgram program = loop.program.accept(this);
+        if (profiler != null) {
+            return probe(profiler.statements, loop,
+                    new ResolvedProgram.Loop(condition, probe(profiler.iterations, loop, program)));
+        }
+        LinearLoop linear = LinearLoop.match(loop);
+        if (linear == null) {
+            if (loop.condition instanceof Identifier) {
+                Identifier counter = (Identifier) loop.condition;
+                return new ResolvedProgram.CounterLoop(counter, slots.slot(counter.name), program);
+            }
+            return new ResolvedProgram.Loop(condition, program);
+        }
+        int[] variables = new int[linear.variables.length];
+        ResolvedExpression[] increments = new ResolvedExpression[linear.increments.length];
+        for (int i = 0; i < variables.length; i++) {
+            variables[i] = slots.slot(linear.variables[i].name);
+            increments[i] = linear.increments[i].accept(this);
+        }
+        return new ResolvedProgram.LinearLoop(condition, program, slots.slot(linear.counter.name), linear.step,
+                variables, increments);
+    }
+
+    /*! `probe` wraps the `resolved` program in the probe stored for `statement` in `probes`. A statement occurring
+    several times in the program shares one probe. Without a profiler `probes` is `null` and `resolved` is returned
+    unchanged. */
+    private ResolvedProgram probe(Map<Program, ResolvedProgram.Probe> probes, Program statement,
+                                  ResolvedProgram resolved) {
+        if (probes == null) {
+            return resolved;
+        }
+        ResolvedProgram.Probe probe = probes.get(statement);
+        if (probe == null) {
+            probe = new ResolvedProgram.Probe(resolved, profiler.timing);
+            probes.put(statement, probe);
+        }
+        return probe;
+    }
+
+    public ResolvedExpression visitAddition(Addition addition) {
+        return new ResolvedExpression.Addition(addition.leftHandSide.accept(this), addition.rightHandSide.accept(this));
+    }
+
+    public ResolvedExpression visitIdentifier(Identifier identifier) {
+        return new ResolvedExpression.Identifier(identifier, slots.slot(identifier.name));
+    }
+
+    public ResolvedExpression visitInt(Int integer) {
+        return new ResolvedExpression.Int(integer.value);
+    }
+
+    public ResolvedExpression visitSubtraction(Subtraction subtraction) {
+        return new ResolvedExpression.Subtraction(subtraction.leftHandSide.accept(this), subtraction.rightHandSide.accept(this));
+    }
+}
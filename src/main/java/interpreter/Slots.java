@@ -0,0 +1,51 @@
+/*!! Interpreter */
+
+/*!
+Slots
+=====
+
+Looking up a variable by its name in a `Map` hashes the name on every access. Instead we number all variables of a
+program and store their values in an array. The `Slots` assign these numbers (the _slots_) to the names of the
+variables.
+*/
+
+/*!- Header */
+package interpreter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*! Slots are numbered consecutively starting at 0 in the order in which the names are first seen. */
+public final class Slots {
+    private final Map<String, Integer> slots = new HashMap<String, Integer>();
+    private final List<String> names = new ArrayList<String>();
+
+    /*! `slot` returns the slot of the given name and assigns the next free slot to names that have not been seen
+    before. */
+    public int slot(String name) {
+        Integer slot = slots.get(name);
+        if (slot == null) {
+            slot = names.size();
+            slots.put(name, slot);
+            names.add(name);
+        }
+        return slot;
+    }
+
+    /*! `find` returns the slot of the given name or `-1` if the name has not been seen. Unlike `slot` it never
+    changes the slots, so it can be called by several threads at the same time. */
+    public int find(String name) {
+        Integer slot = slots.get(name);
+        return slot == null ? -1 : slot;
+    }
+
+    public String name(int slot) {
+        return names.get(slot);
+    }
+
+    public int size() {
+        return names.size();
+    }
+}
@@ -0,0 +1,229 @@
+/*!! Optimizer */
+
+/*!
+DeadStoreElimination
+====================
+
+An assignment `x := e` is a _dead store_ if the value it assigns to `x` is never read, because `x` is assigned again
+on every path before it is read. Dead stores can be removed without changing the result of the program. The final
+valuation of the program contains all variables, so every variable is read at the end of the program: A store is
+only dead if it is overwritten by a later store.
+
+A run can also end at the head of a loop, if its [Limits](${basePath}/src/main/java/interpreter/Limits.java.html)
+are exceeded. The `LimitExceededException` then contains the valuation at that point. So every variable is read at
+every loop head as well: A store is never dead if a loop lies between it and the store overwriting it.
+
+Removing an assignment must not remove an error either: If `e` reads a variable that has not been assigned, executing
+the assignment raises an `InterpreterException`. We therefore only remove assignments whose expression only reads
+variables that are _definitely assigned_, i.e. assigned on every path leading to the assignment.
+*/
+
+/*!- Header */
+package optimizer;
+
+import expression.Expression;
+import program.*;
+
+import java.util.*;
+
+/*! The elimination is done in two passes. The first pass runs forward through the program and collects all
+assignments that cannot fail. The second pass runs backwards through the program and computes the set of `live`
+variables, which might be read before they are assigned again. It removes every assignment that cannot fail and
+assigns a variable that is not live.
+
+The assignments are collected by identity. If the same `Assignment` object appears at several places of the program,
+it is only considered safe if it cannot fail at any of them. */
+final class DeadStoreElimination implements ProgramVisitor<Program> {
+    private final Set<Assignment> safe = Collections.newSetFromMap(new IdentityHashMap<Assignment, Boolean>());
+    private final Set<Assignment> unsafe = Collections.newSetFromMap(new IdentityHashMap<Assignment, Boolean>());
+    private Set<String> live;
+    private Set<String> variables;
+
+    /*! If `required` is set, the next visited statement must not be removed completely, because it is the only
+    statement of a block or case of a conditional or loop. */
+    private boolean required;
+
+    Program eliminate(Program program) {
+        program.accept(new DefiniteAssignment());
+        live = new HashSet<String>();
+        program.accept(new Variables());
+        variables = new HashSet<String>(live);
+        required = true;
+        return program.accept(this);
+    }
+
+    private static Set<String> reads(Expression expression) {
+        return new LinearExpression(expression).identifiers();
+    }
+
+    /*!
+    Removing Dead Stores
+    --------------------
+
+    Every `visit` method updates the set of `live` variables from the variables live after the statement to the
+    variables live before the statement and returns the statement without dead stores or `null` if the whole
+    statement can be removed.
+    */
+    public Program visitAssignment(Assignment assignment) {
+        boolean keep = required;
+        required = false;
+        String name = assignment.identifier.name;
+        if (!keep && !live.contains(name) && safe.contains(assignment) && !unsafe.contains(assignment)) {
+            return null;
+        }
+        live.remove(name);
+        live.addAll(reads(assignment.expression));
+        return assignment;
+    }
+
+    public Program visitBlock(Block block) {
+        boolean keep = required;
+        List<Program> statements = new ArrayList<Program>();
+        for (int i = block.statements.length - 1; i >= 0; i--) {
+            required = keep && i == 0 && statements.isEmpty();
+            Program statement = block.statements[i].accept(this);
+            if (statement != null) {
+                statements.add(statement);
+            }
+        }
+        required = false;
+        if (statements.isEmpty()) {
+            return null;
+        } else if (statements.size() == 1) {
+            return statements.get(0);
+        }
+        Collections.reverse(statements);
+        return new Block(statements.toArray(new Program[statements.size()]));
+    }
+
+    public Program visitComposition(Composition composition) {
+        boolean keep = required;
+        required = false;
+        Program second = composition.second.accept(this);
+        required = keep && second == null;
+        Program first = composition.first.accept(this);
+        required = false;
+        if (first == null) {
+            return second;
+        } else if (second == null) {
+            return first;
+        }
+        return new Composition(first, second);
+    }
+
+    /*! The variables live before a conditional are the ones live before either case and the ones read by the
+    condition. */
+    public Program visitConditional(Conditional conditional) {
+        Set<String> after = new HashSet<String>(live);
+        required = true;
+        Program thenCase = conditional.thenCase.accept(this);
+        Set<String> beforeThenCase = live;
+        live = after;
+        required = true;
+        Program elseCase = conditional.elseCase.accept(this);
+        live.addAll(beforeThenCase);
+        live.addAll(reads(conditional.condition));
+        required = false;
+        return new Conditional(conditional.condition, thenCase, elseCase);
+    }
+
+    /*! All variables are live at the head of a loop, as the run might stop there. The variables live before a loop
+    are therefore all variables, the ones read by the condition and the ones live before the body, which can only add
+    variables that are read without being assigned anywhere. As all variables are live after the body as well, one
+    pass over the body is enough. */
+    public Program visitLoop(Loop loop) {
+        Set<String> before = new HashSet<String>(variables);
+        before.addAll(reads(loop.condition));
+        live = new HashSet<String>(before);
+        required = true;
+        Program program = loop.program.accept(this);
+        before.addAll(live);
+        live = before;
+        return new Loop(loop.condition, program);
+    }
+
+    /*!
+    Definite Assignment
+    -------------------
+
+    The first pass tracks the set of variables that have been `assigned` on every path to the current statement. After
+    a conditional only the variables assigned in both cases are definitely assigned. The body of a loop might not be
+    executed at all, so the variables assigned only in the body are not definitely assigned after the loop.
+    */
+    private final class DefiniteAssignment implements ProgramVisitor<Void> {
+        private Set<String> assigned = new HashSet<String>();
+
+        public Void visitAssignment(Assignment assignment) {
+            if (assigned.containsAll(reads(assignment.expression))) {
+                safe.add(assignment);
+            } else {
+                unsafe.add(assignment);
+            }
+            assigned.add(assignment.identifier.name);
+            return null;
+        }
+
+        public Void visitBlock(Block block) {
+            for (Program statement : block.statements) {
+                statement.accept(this);
+            }
+            return null;
+        }
+
+        public Void visitComposition(Composition composition) {
+            composition.first.accept(this);
+            composition.second.accept(this);
+            return null;
+        }
+
+        public Void visitConditional(Conditional conditional) {
+            Set<String> before = new HashSet<String>(assigned);
+            conditional.thenCase.accept(this);
+            Set<String> afterThenCase = assigned;
+            assigned = before;
+            conditional.elseCase.accept(this);
+            assigned.retainAll(afterThenCase);
+            return null;
+        }
+
+        public Void visitLoop(Loop loop) {
+            Set<String> before = new HashSet<String>(assigned);
+            loop.program.accept(this);
+            assigned = before;
+            return null;
+        }
+    }
+
+    /*! All variables assigned by the program are live at its end and at every loop head, as they are part of the
+    final valuation and of the partial valuation of a run stopped by its limits. */
+    private final class Variables implements ProgramVisitor<Void> {
+        public Void visitAssignment(Assignment assignment) {
+            live.add(assignment.identifier.name);
+            return null;
+        }
+
+        public Void visitBlock(Block block) {
+            for (Program statement : block.statements) {
+                statement.accept(this);
+            }
+            return null;
+        }
+
+        public Void visitComposition(Composition composition) {
+            composition.first.accept(this);
+            composition.second.accept(this);
+            return null;
+        }
+
+        public Void visitConditional(Conditional conditional) {
+            conditional.thenCase.accept(this);
+            conditional.elseCase.accept(this);
+            return null;
+        }
+
+        public Void visitLoop(Loop loop) {
+            loop.program.accept(this);
+            return null;
+        }
+    }
+}
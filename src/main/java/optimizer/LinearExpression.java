@@ -0,0 +1,139 @@
+/*!! Optimizer */
+
+/*!
+LinearExpression
+================
+
+Expressions only consist of additions, subtractions, identifiers and integers. Every expression is therefore a _linear
+combination_ of its identifiers
+
+    c1 * x1 + c2 * x2 + ... + cn * xn + k
+
+with integer coefficients `c1` to `cn` and a constant `k`. As `int` arithmetic wraps around on overflow, it is
+arithmetic modulo 2^32, where addition is associative and commutative. The linear combination therefore always has
+the same value as the expression it was computed from, even if intermediate results overflow.
+*/
+
+/*!- Header */
+package optimizer;
+
+import expression.*;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/*! A `LinearExpression` is computed by visiting an expression, adding up the coefficients of all identifiers and all
+integers. The `sign` is negated while visiting the right hand side of a subtraction. Afterwards `toExpression` builds
+the simplest expression with the same value.
+
+Evaluating an expression fails if it reads an identifier that has not been assigned. The simplified expression must
+fail in the same way and report the same identifier. This is why the coefficients are stored in the order in which
+the identifiers appear for the first time, and why an identifier is never removed even if its coefficient is `0`.
+The simplified expression reuses the `Identifier` node of the first appearance of every identifier, so its position
+in the source code (see [SourceMap](${basePath}/src/main/java/parser/SourceMap.java.html)) is kept. */
+final class LinearExpression implements ExpressionVisitor<Void> {
+    private final Map<String, Integer> coefficients = new LinkedHashMap<String, Integer>();
+    private final Map<String, Identifier> nodes = new HashMap<String, Identifier>();
+    private int constant;
+    private int sign = 1;
+
+    LinearExpression(Expression expression) {
+        expression.accept(this);
+    }
+
+    private LinearExpression(Map<String, Integer> coefficients, Map<String, Identifier> nodes, int constant) {
+        this.coefficients.putAll(coefficients);
+        this.nodes.putAll(nodes);
+        this.constant = constant;
+    }
+
+    /*! `isConstant` tells whether the expression does not read any identifier. Its value is then `getConstant()`. */
+    boolean isConstant() {
+        return coefficients.isEmpty();
+    }
+
+    int getConstant() {
+        return constant;
+    }
+
+    /*! The identifiers appearing in the expression in the order of their first appearance. */
+    Set<String> identifiers() {
+        return coefficients.keySet();
+    }
+
+    int coefficient(String name) {
+        Integer coefficient = coefficients.get(name);
+        return coefficient == null ? 0 : coefficient;
+    }
+
+    /*! `without` returns the linear combination without the identifier `name`. */
+    LinearExpression without(String name) {
+        LinearExpression result = new LinearExpression(coefficients, nodes, constant);
+        result.coefficients.remove(name);
+        return result;
+    }
+
+    public Void visitAddition(Addition addition) {
+        addition.leftHandSide.accept(this);
+        addition.rightHandSide.accept(this);
+        return null;
+    }
+
+    public Void visitSubtraction(Subtraction subtraction) {
+        subtraction.leftHandSide.accept(this);
+        sign = -sign;
+        subtraction.rightHandSide.accept(this);
+        sign = -sign;
+        return null;
+    }
+
+    public Void visitInt(Int integer) {
+        constant += sign * integer.value;
+        return null;
+    }
+
+    public Void visitIdentifier(Identifier identifier) {
+        coefficients.put(identifier.name, coefficient(identifier.name) + sign);
+        if (!nodes.containsKey(identifier.name)) {
+            nodes.put(identifier.name, identifier);
+        }
+        return null;
+    }
+
+    /*! There is no multiplication in our language, so an identifier with coefficient `c` is added `c` times. The
+    absolute value of a coefficient is at most the number of times the identifier appears in the original expression,
+    so the result is never larger than the original. An identifier with coefficient `0` is added and subtracted again
+    in order to keep the check that it has been assigned. */
+    Expression toExpression() {
+        Expression result = null;
+        boolean constantUsed = false;
+        for (Map.Entry<String, Integer> entry : coefficients.entrySet()) {
+            Identifier identifier = nodes.get(entry.getKey());
+            int coefficient = entry.getValue();
+            int additions = coefficient == 0 ? 1 : Math.max(coefficient, 0);
+            int subtractions = coefficient == 0 ? 1 : Math.max(-coefficient, 0);
+            for (int i = 0; i < additions; i++) {
+                result = result == null ? identifier : new Addition(result, identifier);
+            }
+            for (int i = 0; i < subtractions; i++) {
+                /*! If the first identifier is subtracted, the constant becomes the left hand side. */
+                if (result == null) {
+                    result = new Int(constant);
+                    constantUsed = true;
+                }
+                result = new Subtraction(result, identifier);
+            }
+        }
+        if (result == null) {
+            return new Int(constant);
+        } else if (constantUsed || constant == 0) {
+            return result;
+        } else if (constant > 0 || constant == Integer.MIN_VALUE) {
+            return new Addition(result, new Int(constant));
+        } else {
+            return new Subtraction(result, new Int(-constant));
+        }
+    }
+}
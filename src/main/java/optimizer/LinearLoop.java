@@ -0,0 +1,131 @@
+/*!! Optimizer */
+
+/*!
+LinearLoop
+==========
+
+Many loops follow the pattern of the multiplication in `mult.whl`:
+
+    while (a) { r := r + b ; a := a - 1 }
+
+The loop counts the _counter_ `a` down to `0` and adds the same _increment_ `b` to `r` in every iteration. Running
+`n` iterations of such a loop adds `n * b` to `r`, so the final valuation can be computed directly instead of running
+all iterations one after another.
+*/
+
+/*!- Header */
+package optimizer;
+
+import expression.Expression;
+import expression.Identifier;
+import program.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/*! A `LinearLoop` describes a loop matching this pattern. The loop
+
+    while (c) { x1 := x1 + e1 ; ... ; xn := xn + en ; c := c - 1 }
+
+with the `counter` `c`, the `variables` `x1` to `xn` and the `increments` `e1` to `en` is recognized if
+
+- the condition is just the `counter`,
+- the body consists of assignments only, which assign every variable at most once,
+- the counter is assigned by `c := c - 1` or `c := c + 1` (the `step`) and
+- every other variable `x` is assigned an expression that contains `x` exactly once and otherwise only reads
+  variables that are not assigned in the loop.
+
+The statements may appear in any order and the expressions may have any form with the same linear combination (see
+[LinearExpression](${basePath}/src/main/java/optimizer/LinearExpression.java.html)), e.g. `r := b + r` or
+`r := r - (0 - b)`. As the increments only read variables not changed by the loop, they have the same value in every
+iteration.
+
+The counter reaches `0` after `c` iterations if it is decremented, and after `-c` iterations if it is incremented,
+where the number is interpreted as an unsigned 32 bit integer because `int` arithmetic wraps around. Multiplying this
+number with an increment in `int` arithmetic wraps around in the same way as adding the increment that often, so the
+result is exact for every value of the counter. */
+public final class LinearLoop {
+    public final Identifier counter;
+    public final int step;
+    public final Identifier[] variables;
+    public final Expression[] increments;
+
+    private LinearLoop(Identifier counter, int step, Identifier[] variables, Expression[] increments) {
+        this.counter = counter;
+        this.step = step;
+        this.variables = variables;
+        this.increments = increments;
+    }
+
+    /*! `match` returns the `LinearLoop` describing the given `loop` or `null` if the loop does not follow the pattern
+    and must be run iteration by iteration. */
+    public static LinearLoop match(Loop loop) {
+        if (!(loop.condition instanceof Identifier)) {
+            return null;
+        }
+        Identifier counter = (Identifier) loop.condition;
+        List<Assignment> assignments = new ArrayList<Assignment>();
+        if (!collect(loop.program, assignments)) {
+            return null;
+        }
+        Set<String> assigned = new HashSet<String>();
+        for (Assignment assignment : assignments) {
+            if (!assigned.add(assignment.identifier.name)) {
+                return null;
+            }
+        }
+        if (!assigned.contains(counter.name)) {
+            return null;
+        }
+
+        int step = 0;
+        List<Identifier> variables = new ArrayList<Identifier>();
+        List<Expression> increments = new ArrayList<Expression>();
+        for (Assignment assignment : assignments) {
+            String name = assignment.identifier.name;
+            LinearExpression expression = new LinearExpression(assignment.expression);
+            if (expression.coefficient(name) != 1) {
+                return null;
+            }
+            LinearExpression increment = expression.without(name);
+            for (String identifier : increment.identifiers()) {
+                if (assigned.contains(identifier)) {
+                    return null;
+                }
+            }
+            if (name.equals(counter.name)) {
+                if (!increment.isConstant() || (increment.getConstant() != 1 && increment.getConstant() != -1)) {
+                    return null;
+                }
+                step = increment.getConstant();
+            } else {
+                variables.add(assignment.identifier);
+                increments.add(increment.toExpression());
+            }
+        }
+        return new LinearLoop(counter, step, variables.toArray(new Identifier[variables.size()]),
+                increments.toArray(new Expression[increments.size()]));
+    }
+
+    /*! Collects the assignments of the given program if it consists of assignments only. */
+    private static boolean collect(Program program, List<Assignment> assignments) {
+        if (program instanceof Assignment) {
+            assignments.add((Assignment) program);
+            return true;
+        } else if (program instanceof Block) {
+            for (Program statement : ((Block) program).statements) {
+                if (!collect(statement, assignments)) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (program instanceof Composition) {
+            Composition composition = (Composition) program;
+            return collect(composition.first, assignments) && collect(composition.second, assignments);
+        } else {
+            return false;
+        }
+    }
+}
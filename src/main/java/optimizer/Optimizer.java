@@ -0,0 +1,71 @@
+/*!! Optimizer */
+
+/*!
+Optimizer
+=========
+
+The `Optimizer` rewrites a `Program` into a simpler program with the same semantics. It is run by the `Interpreter`
+before the program is executed and can be used on its own, e.g. in order to print the optimized program:
+
+    Program optimized = new Optimizer().optimize(program);
+    System.out.println(new ProgramPrinter().print(optimized));
+
+The optimized program computes the same valuation as the original program and fails with the same
+`InterpreterException` if the original program reads an identifier before it has been assigned.
+*/
+
+/*!- Header */
+package optimizer;
+
+import expression.Expression;
+import program.*;
+
+/*! The `Optimizer` visits the program and rebuilds it with
+
+- every expression replaced by its simplified version computed by
+  [LinearExpression](${basePath}/src/main/java/optimizer/LinearExpression.java.html), which folds constants, removes
+  additions and subtractions of `0` and combines all integers of a chain like `(x + 1) - 1` and
+- every conditional with a constant condition replaced by the case that is always taken.
+
+Afterwards assignments that are overwritten before they are read are removed by the
+[DeadStoreElimination](${basePath}/src/main/java/optimizer/DeadStoreElimination.java.html). */
+public class Optimizer implements ProgramVisitor<Program> {
+
+    public Program optimize(Program program) {
+        return new DeadStoreElimination().eliminate(program.accept(this));
+    }
+
+    public Expression optimize(Expression expression) {
+        return new LinearExpression(expression).toExpression();
+    }
+
+    public Program visitAssignment(Assignment assignment) {
+        return new Assignment(assignment.identifier, optimize(assignment.expression));
+    }
+
+    public Program visitBlock(Block block) {
+        Program[] statements = new Program[block.statements.length];
+        for (int i = 0; i < statements.length; i++) {
+            statements[i] = block.statements[i].accept(this);
+        }
+        return new Block(statements);
+    }
+
+    public Program visitComposition(Composition composition) {
+        return new Composition(composition.first.accept(this), composition.second.accept(this));
+    }
+
+    public Program visitConditional(Conditional conditional) {
+        LinearExpression condition = new LinearExpression(conditional.condition);
+        if (condition.isConstant()) {
+            Program taken = condition.getConstant() != 0 ? conditional.thenCase : conditional.elseCase;
+            return taken.accept(this);
+        }
+        return new Conditional(condition.toExpression(), conditional.thenCase.accept(this),
+                conditional.elseCase.accept(this));
+    }
+
+    public Program visitLoop(Loop loop) {
+        return new Loop(optimize(loop.condition), loop.program.accept(this));
+    }
+}
@@ -0,0 +1,143 @@
+/*!! Parser */
+
+/*!
+Lexer
+=====
+
+The [lexical analysis](https://en.wikipedia.org/wiki/Lexical_analysis) splits the source code into _tokens_ before
+parsing: identifiers, integers and the symbols `:=`, `;`, `(`, `)`, `{`, `}`, `+` and `-`. Whitespace only separates
+tokens and is dropped. The keywords `if`, `then`, `else` and `while` are lexed as identifiers, because the grammar
+allows them as names of variables as well. The parser decides which one is meant.
+*/
+
+/*!- Header */
+package parser;
+
+/*! The `Lexer` scans the whole input once. Instead of creating an object for every token, it stores the tokens in
+parallel arrays: the `kind` of the token, its `start` position in the input, its `length` and, for integers, its
+`value`. The token with index `i` consists of `kinds[i]`, `starts[i]`, `lengths[i]` and `values[i]`. The last token
+always has the kind `END`. */
+final class Lexer {
+    static final byte IDENTIFIER = 0;
+    static final byte INTEGER = 1;
+    static final byte ASSIGN = 2;
+    static final byte SEMICOLON = 3;
+    static final byte LEFT_PARENTHESIS = 4;
+    static final byte RIGHT_PARENTHESIS = 5;
+    static final byte LEFT_BRACE = 6;
+    static final byte RIGHT_BRACE = 7;
+    static final byte PLUS = 8;
+    static final byte MINUS = 9;
+    /*! Characters that cannot start any token become `INVALID` tokens. The parser reports them as syntax errors at
+    their position. */
+    static final byte INVALID = 10;
+    static final byte END = 11;
+
+    /*! The value of integers too large for an `int`. No other integer has a negative value. */
+    static final int LARGE = -1;
+
+    /*! The names of the kinds are used in the messages of `SyntaxException`s. */
+    static final String[] NAMES = {"Identifier", "Integer", ":=", ";", "(", ")", "{", "}", "+", "-", "Token",
+            "End of input"};
+
+    final String input;
+    byte[] kinds = new byte[16];
+    int[] starts = new int[16];
+    int[] lengths = new int[16];
+    int[] values = new int[16];
+    int count;
+
+    Lexer(String input) {
+        this.input = input;
+        scan();
+    }
+
+    private void scan() {
+        int position = 0;
+        int length = input.length();
+        while (true) {
+            while (position < length && Character.isWhitespace(input.charAt(position))) {
+                position += 1;
+            }
+            if (position == length) {
+                add(END, position, 0, 0);
+                return;
+            }
+            int start = position;
+            char ch = input.charAt(position);
+            if (ch >= 'a' && ch <= 'z') {
+                /*! An identifier is a sequence of lower case letters. */
+                while (position < length && input.charAt(position) >= 'a' && input.charAt(position) <= 'z') {
+                    position += 1;
+                }
+                add(IDENTIFIER, start, position - start, 0);
+            } else if (Character.isDigit(ch)) {
+                /*! An integer is a sequence of digits. Its value is computed right here, so the parser does not need
+                to look at the digits again. The minus sign of negative numbers is a separate token. The value
+                2147483648 is stored as `Integer.MIN_VALUE`, as it is only an `int` with a minus in front of it.
+                Larger values are stored as `LARGE`. The parser reads their digits again as `BigInteger`. */
+                long value = 0;
+                while (position < length && Character.isDigit(input.charAt(position))) {
+                    if (value <= Integer.MAX_VALUE + 1L) {
+                        value = value * 10 + Character.digit(input.charAt(position), 10);
+                    }
+                    position += 1;
+                }
+                add(INTEGER, start, position - start, value <= Integer.MAX_VALUE + 1L ? (int) value : LARGE);
+            } else if (ch == ':' && position + 1 < length && input.charAt(position + 1) == '=') {
+                position += 2;
+                add(ASSIGN, start, 2, 0);
+            } else {
+                position += 1;
+                add(symbol(ch), start, 1, 0);
+            }
+        }
+    }
+
+    private static byte symbol(char ch) {
+        switch (ch) {
+            case ';': return SEMICOLON;
+            case '(': return LEFT_PARENTHESIS;
+            case ')': return RIGHT_PARENTHESIS;
+            case '{': return LEFT_BRACE;
+            case '}': return RIGHT_BRACE;
+            case '+': return PLUS;
+            case '-': return MINUS;
+            default: return INVALID;
+        }
+    }
+
+    /*! The arrays grow by doubling their size, so adding a token takes constant time on average. */
+    private void add(byte kind, int start, int length, int value) {
+        if (count == kinds.length) {
+            int size = count * 2;
+            byte[] newKinds = new byte[size];
+            System.arraycopy(kinds, 0, newKinds, 0, count);
+            kinds = newKinds;
+            starts = grow(starts, size);
+            lengths = grow(lengths, size);
+            values = grow(values, size);
+        }
+        kinds[count] = kind;
+        starts[count] = start;
+        lengths[count] = length;
+        values[count] = value;
+        count += 1;
+    }
+
+    private int[] grow(int[] array, int size) {
+        int[] larger = new int[size];
+        System.arraycopy(array, 0, larger, 0, count);
+        return larger;
+    }
+
+    /*! `is` checks if the token with the given `index` is the identifier `name` without creating a string. */
+    boolean is(int index, String name) {
+        return kinds[index] == IDENTIFIER && lengths[index] == name.length()
+                && input.regionMatches(starts[index], name, 0, name.length());
+    }
+
+    String text(int index) {
+        return input.substring(starts[index], starts[index] + lengths[index]);
+    }
+}
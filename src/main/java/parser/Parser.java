@@ -31,6 +31,7 @@ import expression.*;
 import expression.Int;
 import program.*;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -44,16 +45,42 @@ import java.util.List;
 public class Parser {
 
     /*!
-    The instance variable `input` contains the source code that should be parsed and `position` contains the current
-    position of the parser in the `input` string. The following parsing methods each consider the characters of the
-    `input` starting at `position`, e.g. `input.charAt(position)`. After consuming characters of the input the methods
-    increment the `position`.
+    The source code is split into tokens by the [Lexer](${basePath}/src/main/java/parser/Lexer.java.html) first. The
+    instance variable `tokens` contains these tokens and `position` contains the index of the current token. The
+    following parsing methods each consider the tokens starting at `position`, e.g. `tokens.kinds[position]`. After
+    consuming tokens the methods increment the `position`.
     */
     int position;
-    final String input;
+    final Lexer tokens;
+
+    /*! If asked for with the second constructor, the parser records the positions of all nodes it creates in a
+    [SourceMap](${basePath}/src/main/java/parser/SourceMap.java.html). Otherwise `positions` stays `null`. */
+    private final boolean recordPositions;
+    private SourceMap positions;
+
+    /*! If a [NodeFactory](${basePath}/src/main/java/program/NodeFactory.java.html) is given, all nodes are created by
+    it, so equal subtrees of the program are shared. Otherwise every node is a new object. */
+    private final NodeFactory factory;
 
     public Parser(String input) {
-        this.input = input;
+        this(input, false);
+    }
+
+    public Parser(String input, boolean recordPositions) {
+        this.tokens = new Lexer(input);
+        this.recordPositions = recordPositions;
+        this.factory = null;
+    }
+
+    public Parser(String input, NodeFactory factory) {
+        this.tokens = new Lexer(input);
+        this.recordPositions = false;
+        this.factory = factory;
+    }
+
+    /*! Returns the positions of the nodes of the last parsed program or `null` if positions are not recorded. */
+    public SourceMap getSourceMap() {
+        return positions;
     }
 
     /*!
@@ -61,47 +88,56 @@ public class Parser {
     ----------
     */
 
-    /*! We start with defining a helper function that consumes whitespaces, by incrementing the `position` until
-    the current character is not a whitespace.
-
-    Such a function is necessary, because we do the tokenization on the fly during the parsing. In more complex
-    projects the [tokenization](https://en.wikipedia.org/wiki/Lexical_analysis#Tokenization) would be an extra
-    pre-processing step which handles the whitespace removal and creates a stream of tokens out of the input string. */
-    private void whitespace() {
-        while(position < input.length() && Character.isWhitespace(input.charAt(position))) {
-            position += 1;
-        }
+    /*! We start with defining a helper function that returns the kind of the current token. The lexer has already
+    removed all whitespace, so we do not have to care about whitespace in the parser at all. */
+    private byte kind() {
+        return tokens.kinds[position];
     }
 
     /*! Our parsing functions always want to parse something at the current position in the input and raise an
     exception if not possible. In order to implement the rules containing _or_ we need either look-ahead or back
-    tracking in order to decide which branch to take. In those cases we catch the exceptions raised by the called
-    sub-parsers.
-
-    The `consume` method consumes the given string by incrementing the `position`. It raises a `SyntaxException`
-    if the given string is not the next token in the `input` at the current `position`. */
-    private void consume(String token) {
-        whitespace();
-        if (position + token.length() <= input.length() && input.substring(position, position + token.length()).equals(token)) {
-            position += token.length();
+    tracking in order to decide which branch to take. We use look-ahead: the next one or two tokens always tell which
+    branch to take. This is why a `SyntaxException` is only raised if the input really contains a syntax error.
+    Creating an exception is expensive, so using them for back tracking would make up most of the time spent
+    parsing.
+
+    The `consume` method consumes a token of the given kind by incrementing the `position`. It raises a
+    `SyntaxException` if the next token has a different kind. The `SyntaxException` reports the position of the token
+    in the source code. */
+    private void consume(byte kind) {
+        if (kind() == kind) {
+            position += 1;
         } else {
-            throw new SyntaxException(token, position);
+            throw error(Lexer.NAMES[kind]);
         }
     }
 
-    /*! In some situations we want to perform a look-ahead: We want to test if the next token is the given one or not.
-    The `test` function calls the `consume` function defined above and returns if it raised an exception or not. */
-    private boolean test(String token) {
-        int start = position;
-        boolean success;
-        try {
-            consume(token);
-            success = true;
-        } catch (SyntaxException se) {
-            success = false;
+    private SyntaxException error(String expected) {
+        return new SyntaxException(expected, tokens.starts[position]);
+    }
+
+    /*! `record` adds the `node` to the `SourceMap`. It starts at the token with the index `start` and ends with the
+    last consumed token. The node is returned, so `record` can simply be wrapped around the creation of the node. */
+    private <T> T record(T node, int start) {
+        if (positions != null) {
+            positions.add(node, tokens.starts[start], tokens.starts[position - 1] + tokens.lengths[position - 1]);
         }
-        position = start;
-        return success;
+        return node;
+    }
+
+    /*! The keywords are identifier tokens. The second `consume` method consumes the given keyword. */
+    private void consume(String keyword) {
+        if (tokens.is(position, keyword)) {
+            position += 1;
+        } else {
+            throw error(keyword);
+        }
+    }
+
+    /*! In some situations we want to perform a look-ahead: We want to test if the next token has the given kind or
+    not. As the tokens are already known, this is a simple comparison. */
+    private boolean test(byte kind) {
+        return kind() == kind;
     }
 
     /*!
@@ -122,170 +158,93 @@ public class Parser {
 
         Expr = Atom { ("+" | "-") Atom }
 
-    In the rule above we replaced the recursion with the repetition indicated by `{` and `}`. Parsing this
-    repetitive rule involves two steps: Parsing the sequence of atoms and operators into a list
-
-        List<OperatorWithExpression>
-
-    and translate this list into the real data structure afterwards.
-
-    An operator is either `PLUS` or `MINUS`. */
-    private enum Operator { PLUS, MINUS }
-
-    /*! `OperatorWithExpression` stores a pair of an operator and the atom immediately following the operator. */
-    private static class OperatorWithExpression {
-        private final Operator operator;
-        private final Expression expression;
-
-        OperatorWithExpression(Operator operator, Expression expression) {
-            this.operator = operator;
-            this.expression = expression;
-        }
-    }
-
-    /*! Using this data structure we now can define the expression parser: */
+    In the rule above we replaced the recursion with the repetition indicated by `{` and `}`. We parse the first
+    atom and then, as long as the next token is an operator, the operator and the next atom. Every time we parsed
+    another atom, we replace the `expression` parsed so far with an `Addition` or `Subtraction` combining the old
+    `expression` and the new atom. */
     Expression expression() {
+        int start = position;
         /*! Parse the first atom */
-        Expression firstAtom = atom();
-        List<OperatorWithExpression> moreAtoms = new ArrayList<OperatorWithExpression>();
-        /*! Parse more operators and atoms while the helper function `testOperator()` indicates that the `operator()` parser
-        will succeed (without raising an expression). */
-        while(testOperator()) {
-            Operator operator = operator();
-            Expression expression = atom();
-            moreAtoms.add(new OperatorWithExpression(operator, expression));
-        }
-        /*! Translate the sequence of operator and atoms into the inductive `Addition` and `Subtraction` data
-        structure. We start with the `firstAtom` and replace the `expression` for every element of the list
-        with an `Addition` or `Subtraction` combining the old `expression` and the current list element. */
-        Expression expression = firstAtom;
-        for (OperatorWithExpression atom: moreAtoms) {
-            switch (atom.operator) {
-                case PLUS:
-                    expression = new Addition(expression, atom.expression);
-                    break;
-                case MINUS:
-                    expression = new Subtraction(expression, atom.expression);
-                    break;
+        Expression expression = atom();
+        /*! Parse more operators and atoms while the next token is an operator. */
+        while (test(Lexer.PLUS) || test(Lexer.MINUS)) {
+            boolean plus = test(Lexer.PLUS);
+            position += 1;
+            Expression atom = atom();
+            if (plus) {
+                expression = record(factory == null ? new Addition(expression, atom)
+                        : factory.addition(expression, atom), start);
+            } else {
+                expression = record(factory == null ? new Subtraction(expression, atom)
+                        : factory.subtraction(expression, atom), start);
             }
         }
         return expression;
     }
 
-    /*! The `expression` parser above uses the `operator` parser defined below. */
-
-    private Operator operator() {
-        whitespace();
-        /*! Only check the character at the current position in the input if the current
-        position is a valid position in the input (and not after the end of the input). */
-        char next = (char) 0;
-        if (position < input.length()) {
-            next = input.charAt(position);
-            position += 1;
-        }
-        if (next == '+') {
-            return Operator.PLUS;
-        } else if (next == '-') {
-            return Operator.MINUS;
-        } else {
-            throw new SyntaxException("Operator", position);
-        }
-    }
-
-    /*! In the `expression` parser above we used the method `testOperator` defined below which tests
-    if the `operator` parser would succeed without throwing a `SyntaxException`. The implementation calls
-    the `operator` parser in a `try` block and returns `false` if the exception was catched and `true`
-    otherwise. */
-    private boolean testOperator() {
-        int start = position;
-        boolean result;
-        try {
-            operator();
-            result = true;
-        } catch (SyntaxException se) {
-            result = false;
-        }
-        position = start;
-        return result;
-    }
-
     /*! The rule for the non-terminal Atom
 
         Atom = Id | Num | "(" Expr ")"
 
-    can be directly translated into the following `atom` parser. We start by parsing an identifier.
-    If this succeeds we are done. If this parser throws a `SyntaxException` we try the next option
-    of the _or_: We parse a numeric literal. If the corresponding  raises a `SyntaxException`, too,
-    we continue with the atom in braces. If this still raises a `SyntaxException` we pass on this exception
-    to our caller (by not catching it). In this case we failed parsing an atom. */
+    can be directly translated into the following `atom` parser. The next token tells us which option
+    of the _or_ to take: An identifier token starts an identifier and a left parenthesis starts an
+    expression in braces. Everything else must be a numeric literal. If it is not, `integer` raises a
+    `SyntaxException` which we pass on to our caller (by not catching it). In this case we failed
+    parsing an atom. */
     Expression atom() {
-        int start = position;
         Expression result;
-        try {
+        if (test(Lexer.IDENTIFIER)) {
             result = identifier();
-        } catch (SyntaxException se) {
-            /*! Reset the position. The `identifier` parser has failed, but it might have changed the global
-            `position` before raising the `SyntaxException` so we need to reset the position before trying
-            another parser. */
-            position = start;
-            try {
-                result = integer();
-            } catch (SyntaxException se2) {
-                position = start;
-                consume("(");
-                result = expression();
-                consume(")");
-            }
+        } else if (test(Lexer.LEFT_PARENTHESIS)) {
+            position += 1;
+            result = expression();
+            consume(Lexer.RIGHT_PARENTHESIS);
+        } else {
+            result = integer();
         }
         return result;
     }
 
-    /*! An identifier is a sequence of lower case letters. This helper functions checks if the given character
-    could be part of an identifier. */
-    private boolean isLowerLetter(char ch) {
-        return ch >= 'a' && ch <= 'z';
-    }
-
-    /*! In order to parse an identifier we increment the current `position` while the current character could be part
-    of an identifier. */
+    /*! In order to parse an identifier we check that the current token is an identifier and create an `Identifier`
+    with the text of the token. */
     Identifier identifier() {
-        whitespace();
-        int start = position;
-        while (position < input.length() && isLowerLetter(input.charAt(position))) {
-            position += 1;
-        }
-
-        /*! We need to make sure that the identifier is not empty. */
-        if (position > start) {
-            return new Identifier(input.substring(start, position));
-        } else {
-            throw new SyntaxException("Identifier", position);
+        if (!test(Lexer.IDENTIFIER)) {
+            throw error("Identifier");
         }
+        String name = tokens.text(position);
+        Identifier identifier = factory == null ? new Identifier(name) : factory.identifier(name);
+        position += 1;
+        return record(identifier, position - 1);
     }
 
     /*! Parsing an integer follows more or less the same pattern as parsing an identifier (see above). */
     Expression integer() {
-        whitespace();
         int start = position;
-        /*! We check for a unary prefix minus first. */
-        boolean minus = position < input.length() && input.charAt(position) == '-';
+        /*! We check for a unary prefix minus first. It belongs to the integer only if it is immediately followed by
+        the digits, otherwise it is the operator of a subtraction. */
+        boolean minus = test(Lexer.MINUS) && tokens.kinds[position + 1] == Lexer.INTEGER
+                && tokens.starts[position + 1] == tokens.starts[position] + 1;
         if (minus) {
             position += 1;
         }
-        /*! Now we check for at least one digit. */
-        boolean digitsFound = false;
-        while (position < input.length() && Character.isDigit(input.charAt(position))) {
-            position += 1;
-            digitsFound = true;
+        if (!test(Lexer.INTEGER)) {
+            throw error("Integer");
         }
-        /*! In the end we relay on `Integer.parseInt` for translating the string that we found into
-        a real integer and wrap the returned value in an `Int` to create an element of the `Expression`
-        data structure. */
-        if (digitsFound) {
-            return new Int(Integer.parseInt(input.substring(start, position)));
+        /*! The lexer has already computed the value of the integer if it fits into an `int`. Only `-2147483648`
+        has no positive counterpart in the range of `int`. The digits of larger integers are read again as
+        `BigInteger`. */
+        int value = tokens.values[position];
+        Int integer;
+        if (value != Lexer.LARGE && (minus || value != Integer.MIN_VALUE)) {
+            value = minus ? -value : value;
+            integer = factory == null ? new Int(value) : factory.integer(value);
         } else {
-            throw new SyntaxException("Integer", position);
+            BigInteger big = new BigInteger(tokens.text(position));
+            big = minus ? big.negate() : big;
+            integer = factory == null ? new Int(big) : factory.integer(big);
         }
+        position += 1;
+        return record(integer, start);
     }
 
     /*!
@@ -311,49 +270,44 @@ public class Parser {
 
     We start with parsing this new Prog non-terminal in the same way as we parse Expr in `expression`.
     In this case there is only one possible operator between the statements, the sequential operator `;`.
-    This simplifies the situation as we do not need to store the operator. Apart from that simplification
-    we apply the same idea with its two steps: 1) parsing the sequence and 2) creating the `Program` data structure from the
-    list. */
+    This simplifies the situation as we do not need to check which operator we found. Instead of combining
+    the statements into a deep chain of `Composition`s we collect them in a flat
+    [Block](${basePath}/src/main/java/program/Block.java.html). */
 
     Program program() {
+        int start = position;
         /*! Parsing the first statement which must be there */
-        Program firstStatement = statement();
+        List<Program> statements = new ArrayList<Program>();
+        statements.add(statement());
         /*! Parsing optional following statements seperated with `;` */
-        List<Program> moreStatements = new ArrayList<Program>();
-        while (test(";")) {
-            consume(";");
-            Program statement = statement();
-            moreStatements.add(statement);
+        while (test(Lexer.SEMICOLON)) {
+            position += 1;
+            statements.add(statement());
         }
-        /*! We use the first statement as initial result */
-        Program program = firstStatement;
-        /*! and then replace the result with a `Composition` combining the old result and the new statement. */
-        for (Program statement: moreStatements) {
-            program = new Composition(program, statement);
+        /*! A single statement is returned as it is. */
+        if (statements.size() == 1) {
+            return statements.get(0);
         }
-        return program;
+        Program[] array = statements.toArray(new Program[statements.size()]);
+        return record(factory == null ? new Block(array) : factory.block(array), start);
     }
 
-    /*! Parsing a statement boils down to trying to parse
+    /*! Parsing a statement boils down to looking at the next tokens and parsing
 
-    - an assignment and if that fails
-    - a conditional and if that fails
-    - a loop and if that fails
-    - fail completely.
-    */
+    - an assignment if they are an identifier followed by `:=`,
+    - a conditional if the next token is the keyword `if` and
+    - a loop otherwise, which fails if the next token is not the keyword `while`.
+
+    As the keywords are identifiers as well, we need to look at two tokens in order to recognize an
+    assignment: `if := 1` is an assignment to the variable `if`. */
     Program statement() {
-        int start = position;
         Program statement;
-        try {
+        if (test(Lexer.IDENTIFIER) && tokens.kinds[position + 1] == Lexer.ASSIGN) {
             statement = assignment();
-        } catch (SyntaxException se) {
-            position = start;
-            try {
-                statement = conditional();
-            } catch (SyntaxException se2) {
-                position = start;
-                statement = loop();
-            }
+        } else if (tokens.is(position, "if")) {
+            statement = conditional();
+        } else {
+            statement = loop();
         }
         return statement;
     }
@@ -361,40 +315,45 @@ public class Parser {
     /*! Parsing a loop is very straight forward and just follows the rule
     `"while" "(" Expr ")" "{" Prog "}"`. */
     Program loop() {
+        int start = position;
         consume("while");
-        consume("(");
+        consume(Lexer.LEFT_PARENTHESIS);
         Expression condition = expression();
-        consume(")");
-        consume("{");
+        consume(Lexer.RIGHT_PARENTHESIS);
+        consume(Lexer.LEFT_BRACE);
         Program program = program();
-        consume("}");
-        return new Loop(condition, program);
+        consume(Lexer.RIGHT_BRACE);
+        return record(factory == null ? new Loop(condition, program) : factory.loop(condition, program), start);
     }
 
     /*! Parsing a conditional simply follows the rule
     `"if" "(" Expr ")" "then" "{" Prog "}" "else" "{" Prog "}"`. */
     Program conditional() {
+        int start = position;
         consume("if");
-        consume("(");
+        consume(Lexer.LEFT_PARENTHESIS);
         Expression condition = expression();
-        consume(")");
+        consume(Lexer.RIGHT_PARENTHESIS);
         consume("then");
-        consume("{");
+        consume(Lexer.LEFT_BRACE);
         Program thenCase = program();
-        consume("}");
+        consume(Lexer.RIGHT_BRACE);
         consume("else");
-        consume("{");
+        consume(Lexer.LEFT_BRACE);
         Program elseCase = program();
-        consume("}");
-        return new Conditional(condition, thenCase, elseCase);
+        consume(Lexer.RIGHT_BRACE);
+        return record(factory == null ? new Conditional(condition, thenCase, elseCase)
+                : factory.conditional(condition, thenCase, elseCase), start);
     }
 
     /*! Parsing an assignment simply follows the rule `Id ":=" Expr`. */
     Program assignment() {
+        int start = position;
         Identifier identifier = identifier();
-        consume(":=");
+        consume(Lexer.ASSIGN);
         Expression expression = expression();
-        return new Assignment(identifier, expression);
+        return record(factory == null ? new Assignment(identifier, expression)
+                : factory.assignment(identifier, expression), start);
     }
 
     /*!
@@ -402,18 +361,15 @@ public class Parser {
     ----------------
 
     Everything that remains to be done is checking that we reached the end of the input after we
-    are done. As every parser only consumes as much from the input as needed, the `program` parser
-    might end in the middle of the input string. In the following public interface method we call
-    the `program` parser and check that we have reached the end of the input afterwards. */
+    are done. As every parser only consumes as many tokens as needed, the `program` parser
+    might end in the middle of the input. In the following public interface method we call
+    the `program` parser and check that we have reached the `END` token afterwards. */
 
     public Program parse() {
         position = 0;
+        positions = recordPositions ? new SourceMap(tokens.input) : null;
         Program program = program();
-        /*! Whitespace is the only thing allowed after the program. */
-        whitespace();
-        if (position < input.length()) {
-            throw new SyntaxException("End of input", position);
-        }
+        consume(Lexer.END);
         return program;
     }
 }
@@ -0,0 +1,167 @@
+/*!! Parser */
+
+/*!
+SourceMap
+=========
+
+A `SourceMap` records where every node of a parsed program starts and ends in the source code. It is only created if
+the [Parser](${basePath}/src/main/java/parser/Parser.java.html) is asked for it:
+
+    Parser parser = new Parser(code, true);
+    Program program = parser.parse();
+    SourceMap positions = parser.getSourceMap();
+
+Error messages and the [ProfilePrinter](${basePath}/src/main/java/printer/ProfilePrinter.java.html) use it to point
+to the source code of a statement or an identifier.
+*/
+
+/*!- Header */
+package parser;
+
+import java.util.Arrays;
+
+/*! The nodes are numbered in the order in which the parser creates them. The node with the _id_ `i` is stored in
+`nodes[i]` and covers the characters from `starts[i]` to `ends[i] - 1` of the source code. The nodes themselves do
+not know their positions, so programs parsed without a `SourceMap` do not need any memory for positions at all.
+
+The source code is a `String`, so the positions in `starts` and `ends` always fit into an `int`. The input read by
+the `StreamingParser` can be much longer than 2^31 characters though, so all positions visible outside, like the
+results of `start`, `end` and `line`, are `long`s counted from the start of the whole input.
+
+Nodes are looked up by identity, as equal nodes at different places of the program have different positions. The
+hash table `index` from nodes to ids and the table `lines` of the offsets at which lines start are only built on
+first use. */
+public final class SourceMap {
+    private final String source;
+    private Object[] nodes = new Object[16];
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private int size;
+
+    private int[] index;
+    private int[] lines;
+
+    /*! The `source` starts at the given `offset` of the whole input, which is `0` unless the source is a single
+    statement read by the [StreamingParser](${basePath}/src/main/java/parser/StreamingParser.java.html). Then the first
+    character of the source is in line `firstLine`, which starts at the offset `firstLineOffset`. */
+    private long offset;
+    private long firstLine = 1;
+    private long firstLineOffset;
+
+    SourceMap(String source) {
+        this.source = source;
+    }
+
+    /*! `shift` moves all positions by `offset`, after the source has been parsed on its own. */
+    void shift(long offset, long firstLine, long firstLineOffset) {
+        this.offset = offset;
+        this.firstLine = firstLine;
+        this.firstLineOffset = firstLineOffset;
+        lines = null;
+    }
+
+    /*! The arrays grow by doubling their size just like the arrays of the
+    [Lexer](${basePath}/src/main/java/parser/Lexer.java.html). */
+    void add(Object node, int start, int end) {
+        if (size == nodes.length) {
+            nodes = Arrays.copyOf(nodes, size * 2);
+            starts = Arrays.copyOf(starts, size * 2);
+            ends = Arrays.copyOf(ends, size * 2);
+        }
+        nodes[size] = node;
+        starts[size] = start;
+        ends[size] = end;
+        size += 1;
+        index = null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long start(int id) {
+        return offset + starts[id];
+    }
+
+    public long end(int id) {
+        return offset + ends[id];
+    }
+
+    /*! `id` returns the id of the given node or `-1` if it was not created by the parser. If a node occurs several
+    times in the program, the id of its first occurrence is returned.
+
+    The `index` is a hash table with open addressing storing `id + 1` for every node, so `0` marks an empty entry. It
+    has at least twice as many entries as there are nodes, so there is always an empty entry ending the search. */
+    public int id(Object node) {
+        if (index == null) {
+            int capacity = Integer.highestOneBit(Math.max(size, 1) * 2) * 2;
+            index = new int[capacity];
+            for (int id = size - 1; id >= 0; id--) {
+                index[find(nodes[id])] = id + 1;
+            }
+        }
+        return index[find(node)] - 1;
+    }
+
+    /*! `find` returns the entry of the given node or the empty entry where it would be stored. */
+    private int find(Object node) {
+        int mask = index.length - 1;
+        int hash = System.identityHashCode(node) * 0x9e3779b9;
+        int entry = (hash ^ hash >>> 16) & mask;
+        while (index[entry] != 0 && nodes[index[entry] - 1] != node) {
+            entry = (entry + 1) & mask;
+        }
+        return entry;
+    }
+
+    /*!
+    Lines and Columns
+    -----------------
+
+    The positions are offsets in the source code. `line` and `column` translate an offset into the line and the
+    column counted from `1`. The offsets of the starts of all lines after the first one are computed once relative
+    to the source and searched with a binary search. The first line may start before the source at `firstLineOffset`.
+    */
+    public long line(long offset) {
+        return firstLine + linesBefore(offset);
+    }
+
+    public long column(long offset) {
+        int line = linesBefore(offset);
+        long lineOffset = line == 0 ? firstLineOffset : this.offset + lines[line - 1];
+        return offset - lineOffset + 1;
+    }
+
+    /*! `linesBefore` returns the number of line starts in the source up to the given `offset`. */
+    private int linesBefore(long offset) {
+        if (lines == null) {
+            int[] offsets = new int[16];
+            int count = 0;
+            for (int i = 0; i < source.length(); i++) {
+                if (source.charAt(i) == '\n') {
+                    if (count == offsets.length) {
+                        offsets = Arrays.copyOf(offsets, count * 2);
+                    }
+                    offsets[count++] = i + 1;
+                }
+            }
+            lines = Arrays.copyOf(offsets, count);
+        }
+        long relative = offset - this.offset;
+        if (relative < 0) {
+            return 0;
+        }
+        int line = Arrays.binarySearch(lines, (int) Math.min(relative, Integer.MAX_VALUE));
+        return line >= 0 ? line + 1 : -line - 1;
+    }
+
+    /*! `location` describes the start of the given node like `line 2, column 7`. It returns `null` if the node was not
+    created by the parser. */
+    public String location(Object node) {
+        int id = id(node);
+        if (id < 0) {
+            return null;
+        }
+        return "line " + line(start(id)) + ", column " + column(start(id));
+    }
+}
@@ -0,0 +1,144 @@
+/*!! Parser */
+
+/*!
+StreamingParser
+===============
+
+The [Parser](${basePath}/src/main/java/parser/Parser.java.html) needs the whole source code as one `String`. For
+very large generated programs this means reading gigabytes into memory before anything happens. The
+`StreamingParser` reads the source code from a `Reader` or a `ReadableByteChannel` instead and returns the top level
+statements one after another as soon as they have been read:
+
+    StreamingParser parser = new StreamingParser(reader);
+    Program statement;
+    while ((statement = parser.next()) != null) {
+        interpreter.execute(statement);
+    }
+
+Together with the [IncrementalInterpreter](${basePath}/src/main/java/interpreter/IncrementalInterpreter.java.html)
+the first statements run while the rest of the input has not even been read. Only the current statement is kept in
+memory, so the memory needed does not grow with the size of the input.
+*/
+
+/*!- Header */
+package parser;
+
+import program.Program;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+/*! The top level statements are separated by the `;` that are not enclosed in any braces. As the language has
+neither strings nor comments, these separators can be found by counting the braces without tokenizing the input.
+The text between two separators is parsed by a usual `Parser`. Positions in `SyntaxException`s and in the
+`SourceMap` are moved, so they refer to the whole input as usual.
+
+The input is read into a buffer of fixed size. As a program consists of at least one statement, the text after the
+last separator is always parsed, even if it is empty. This raises the same `SyntaxException` as the `Parser` does for
+an empty program or a trailing `;`. Of course all statements before a syntax error have been returned already. */
+public final class StreamingParser {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final boolean recordPositions;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int index;
+    private int length;
+    /*! The offset of `buffer[0]` in the whole input. All positions in the whole input are `long`s, as the input can
+    be longer than 2^31 characters. */
+    private long bufferOffset;
+    private long line = 1;
+    private long lineOffset;
+    private boolean finished;
+
+    private final StringBuilder text = new StringBuilder();
+    private SourceMap positions;
+
+    public StreamingParser(Reader reader) {
+        this(reader, false);
+    }
+
+    public StreamingParser(Reader reader, boolean recordPositions) {
+        this(reader, recordPositions, 0);
+    }
+
+    /*! Only for tests: the input starts at the given `offset` of a larger input, as if that many characters
+    without a line break had been read already. */
+    StreamingParser(Reader reader, boolean recordPositions, long offset) {
+        this.reader = reader;
+        this.recordPositions = recordPositions;
+        this.bufferOffset = offset;
+    }
+
+    /*! Bytes are decoded as UTF-8. */
+    public StreamingParser(ReadableByteChannel channel) {
+        this(channel, false);
+    }
+
+    public StreamingParser(ReadableByteChannel channel, boolean recordPositions) {
+        this(Channels.newReader(channel, "UTF-8"), recordPositions);
+    }
+
+    /*! Returns the positions of the nodes of the last statement or `null` if positions are not recorded. */
+    public SourceMap getSourceMap() {
+        return positions;
+    }
+
+    /*! `next` returns the next top level statement or `null` at the end of the input. */
+    public Program next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        long start = bufferOffset + index;
+        long startLine = line;
+        long startLineOffset = lineOffset;
+        int depth = 0;
+        text.setLength(0);
+        while (true) {
+            if (index == length && !fill()) {
+                finished = true;
+                return parse(start, startLine, startLineOffset);
+            }
+            int from = index;
+            while (index < length) {
+                char ch = buffer[index++];
+                if (ch == '\n') {
+                    line += 1;
+                    lineOffset = bufferOffset + index;
+                } else if (ch == '{') {
+                    depth += 1;
+                } else if (ch == '}') {
+                    depth -= 1;
+                } else if (ch == ';' && depth <= 0) {
+                    text.append(buffer, from, index - 1 - from);
+                    return parse(start, startLine, startLineOffset);
+                }
+            }
+            text.append(buffer, from, index - from);
+        }
+    }
+
+    private boolean fill() throws IOException {
+        bufferOffset += length;
+        index = 0;
+        length = Math.max(reader.read(buffer), 0);
+        return length > 0;
+    }
+
+    private Program parse(long start, long startLine, long startLineOffset) {
+        Parser parser = new Parser(text.toString(), recordPositions);
+        Program statement;
+        try {
+            statement = parser.parse();
+        } catch (SyntaxException e) {
+            throw new SyntaxException(e.expected, e.position + start);
+        }
+        positions = parser.getSourceMap();
+        if (positions != null) {
+            positions.shift(start, startLine, startLineOffset);
+        }
+        return statement;
+    }
+}
@@ -9,12 +9,12 @@ SyntaxException
 package parser;
 
 /*! A `SyntaxException` is raised by the function in the `Parser` if an expected was not found at the current
-position. */
+position. The `position` is a `long`, as the `StreamingParser` reads inputs longer than 2^31 characters. */
 public class SyntaxException extends RuntimeException {
     public final String expected;
-    public final int position;
+    public final long position;
 
-    public SyntaxException(String expected, int atPosition) {
+    public SyntaxException(String expected, long atPosition) {
         super(expected + " expected at position " + atPosition);
         this.expected = expected;
         this.position = atPosition;
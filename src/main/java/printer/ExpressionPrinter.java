@@ -11,27 +11,55 @@ The `ExpressionPrinter` is used for string serialization of a given `Expression`
 package printer;
 
 import expression.*;
-import interpreter.Visitor;
+
+import java.io.IOException;
 
 /*!
 The `ExpressionPrinter` implements the string serialization with the help of the
-[Visitor](${basePath}/src/main/java/interpreter/Visitor.java.html).
+[ExpressionVisitor](${basePath}/src/main/java/expression/ExpressionVisitor.java.html).
+
+Printing an expression recursively would need one stack frame for every level of the expression and concatenating
+the strings of the subexpressions would copy the same characters again on every level. Instead the printer keeps an
+explicit `stack` of the work still to do. Every element is either a `String` that is appended to the output as it is
+or an `Expression` that still needs to be printed. Visiting an expression replaces it by its parts, which are pushed
+in reverse order, so the topmost element is always the next one to print. The output is written to an `Appendable`
+and every character is appended exactly once.
 */
-public class ExpressionPrinter extends Visitor<String> {
-    public String visitAddition(Addition addition) {
-        return visit(addition.leftHandSide) + " + " + visit(addition.rightHandSide);
+public class ExpressionPrinter implements ExpressionVisitor<Void> {
+    private Object[] stack = new Object[16];
+    private int size;
+
+    private void push(Object item) {
+        if (size == stack.length) {
+            Object[] larger = new Object[size * 2];
+            System.arraycopy(stack, 0, larger, 0, size);
+            stack = larger;
+        }
+        stack[size++] = item;
     }
 
-    public String visitIdentifier(Identifier identifier) {
-        return identifier.name;
+    public Void visitAddition(Addition addition) {
+        push(addition.rightHandSide);
+        push(" + ");
+        push(addition.leftHandSide);
+        return null;
     }
 
-    public String visitInt(Int integer) {
-        return Integer.toString(integer.value);
+    public Void visitIdentifier(Identifier identifier) {
+        push(identifier.name);
+        return null;
     }
 
-    public String visitSubtraction(Subtraction subtraction) {
-        return visit(subtraction.leftHandSide) + " - " + visit(subtraction.rightHandSide);
+    public Void visitInt(Int integer) {
+        push(integer.isInt() ? Integer.toString(integer.value) : integer.bigValue().toString());
+        return null;
+    }
+
+    public Void visitSubtraction(Subtraction subtraction) {
+        push(subtraction.rightHandSide);
+        push(" - ");
+        push(subtraction.leftHandSide);
+        return null;
     }
 
     /*!
@@ -39,6 +67,27 @@ public class ExpressionPrinter extends Visitor<String> {
     the string serialization of the given expression.
     */
     public String print(Expression expression) {
-        return visit(expression);
+        StringBuilder builder = new StringBuilder();
+        try {
+            print(expression, builder);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return builder.toString();
+    }
+
+    /*! The second `print` function appends the string serialization to the given `out`, e.g. a `Writer`. */
+    public void print(Expression expression, Appendable out) throws IOException {
+        int bottom = size;
+        push(expression);
+        while (size > bottom) {
+            Object item = stack[--size];
+            stack[size] = null;
+            if (item instanceof String) {
+                out.append((String) item);
+            } else {
+                ((Expression) item).accept(this);
+            }
+        }
     }
 }
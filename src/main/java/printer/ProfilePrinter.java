@@ -0,0 +1,218 @@
+/*!! Printer */
+
+/*!
+ProfilePrinter
+==============
+
+The `ProfilePrinter` prints the counts collected by a [Profiler](${basePath}/src/main/java/interpreter/Profiler.java.html)
+next to the source code of the profiled `Program`. The program is printed like by the
+[ProgramPrinter](${basePath}/src/main/java/printer/ProgramPrinter.java.html), but with one statement per line:
+
+             1  r := 0 ;
+             1  while (a) {
+             6      r := r + b ;
+             6      a := a - 1
+                }
+
+The number in front of a statement tells how often it was executed. The line `} else {` of a conditional shows how
+often the `elseCase` was taken. If the profiler measured time, a second column shows the time spent in the statement
+in milliseconds. Alternatively `printJson` prints the same information as JSON.
+*/
+
+/*!- Header */
+package printer;
+
+import interpreter.Profiler;
+import parser.SourceMap;
+import program.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProfilePrinter implements ProgramVisitor<Void> {
+    private static final String INDENT = "    ";
+
+    private final ExpressionPrinter printer = new ExpressionPrinter();
+    private final Profiler profiler;
+    private final SourceMap positions;
+    private StringBuilder builder;
+    private int depth;
+
+    public ProfilePrinter(Profiler profiler) {
+        this(profiler, null);
+    }
+
+    /*! If the [SourceMap](${basePath}/src/main/java/parser/SourceMap.java.html) of the parsed program is given, the
+    JSON output contains the positions of the statements in the source code. */
+    public ProfilePrinter(Profiler profiler, SourceMap positions) {
+        this.profiler = profiler;
+        this.positions = positions;
+    }
+
+    /*! Every line starts with the columns holding the `count` of the statement and the time spent in it. Lines
+    without a statement, like the closing braces, pass `-1` and leave the columns empty. */
+    private void line(long count, long nanos, String code) {
+        builder.append(count < 0 ? String.format("%10s", "") : String.format("%10d", count));
+        if (profiler.isTiming()) {
+            builder.append(nanos < 0 ? String.format("%14s", "") : String.format("%11.3f ms", nanos / 1e6));
+        }
+        builder.append("  ");
+        for (int i = 0; i < depth; i++) {
+            builder.append(INDENT);
+        }
+        builder.append(code).append('\n');
+    }
+
+    public Void visitAssignment(Assignment assignment) {
+        line(profiler.count(assignment), profiler.nanos(assignment),
+                printer.print(assignment.identifier) + " := " + printer.print(assignment.expression));
+        return null;
+    }
+
+    public Void visitBlock(Block block) {
+        sequence(block);
+        return null;
+    }
+
+    public Void visitComposition(Composition composition) {
+        sequence(composition);
+        return null;
+    }
+
+    /*! The statements of blocks and compositions are printed on lines of their own. The separating `;` is appended to
+    the last line of every statement but the last one. */
+    private void sequence(Program program) {
+        List<Program> statements = new ArrayList<Program>();
+        flatten(program, statements);
+        for (int i = 0; i < statements.size(); i++) {
+            statements.get(i).accept(this);
+            if (i < statements.size() - 1) {
+                builder.setLength(builder.length() - 1);
+                builder.append(" ;\n");
+            }
+        }
+    }
+
+    private static void flatten(Program program, List<Program> statements) {
+        if (program instanceof Block) {
+            for (Program statement : ((Block) program).statements) {
+                flatten(statement, statements);
+            }
+        } else if (program instanceof Composition) {
+            flatten(((Composition) program).first, statements);
+            flatten(((Composition) program).second, statements);
+        } else {
+            statements.add(program);
+        }
+    }
+
+    public Void visitConditional(Conditional conditional) {
+        line(profiler.count(conditional), profiler.nanos(conditional),
+                "if (" + printer.print(conditional.condition) + ") then {");
+        nested(conditional.thenCase);
+        line(profiler.elseCount(conditional), -1, "} else {");
+        nested(conditional.elseCase);
+        line(-1, -1, "}");
+        return null;
+    }
+
+    public Void visitLoop(Loop loop) {
+        line(profiler.count(loop), profiler.nanos(loop), "while (" + printer.print(loop.condition) + ") {");
+        nested(loop.program);
+        line(-1, -1, "}");
+        return null;
+    }
+
+    private void nested(Program program) {
+        depth += 1;
+        program.accept(this);
+        depth -= 1;
+    }
+
+    /*!
+    The `print` function takes the profiled `Program` as an argument and returns the annotated source code.
+    */
+    public String print(Program program) {
+        builder = new StringBuilder();
+        depth = 0;
+        program.accept(this);
+        return builder.toString();
+    }
+
+    /*!
+    JSON
+    ----
+
+    `printJson` lists all assignments, conditionals and loops in the order they appear in the source code:
+
+        {"statements": [
+          {"kind": "assignment", "source": "r := 0", "count": 1},
+          {"kind": "loop", "source": "while (a)", "count": 1, "iterations": 6},
+          ...
+        ]}
+
+    Conditionals have the additional fields `then` and `else` holding the number of times each case was taken. If the
+    profiler measured time, every statement has the field `nanos`. If the positions are known, every statement has
+    the fields `start` and `end` holding its offsets and `line` and `column` holding its start in the source code.
+    The sources consist of identifiers, numbers and operators only, so they never need to be escaped.
+    */
+    public String printJson(Program program) {
+        final List<String> entries = new ArrayList<String>();
+        program.accept(new ProgramVisitor<Void>() {
+            public Void visitAssignment(Assignment assignment) {
+                entries.add(entry(assignment, "assignment",
+                        printer.print(assignment.identifier) + " := " + printer.print(assignment.expression), ""));
+                return null;
+            }
+
+            public Void visitBlock(Block block) {
+                for (Program statement : block.statements) {
+                    statement.accept(this);
+                }
+                return null;
+            }
+
+            public Void visitComposition(Composition composition) {
+                composition.first.accept(this);
+                composition.second.accept(this);
+                return null;
+            }
+
+            public Void visitConditional(Conditional conditional) {
+                entries.add(entry(conditional, "conditional", "if (" + printer.print(conditional.condition) + ")",
+                        ", \"then\": " + profiler.thenCount(conditional)
+                                + ", \"else\": " + profiler.elseCount(conditional)));
+                conditional.thenCase.accept(this);
+                conditional.elseCase.accept(this);
+                return null;
+            }
+
+            public Void visitLoop(Loop loop) {
+                entries.add(entry(loop, "loop", "while (" + printer.print(loop.condition) + ")",
+                        ", \"iterations\": " + profiler.iterations(loop)));
+                loop.program.accept(this);
+                return null;
+            }
+        });
+        StringBuilder json = new StringBuilder("{\"statements\": [");
+        for (int i = 0; i < entries.size(); i++) {
+            json.append(i > 0 ? ",\n  " : "\n  ").append(entries.get(i));
+        }
+        return json.append("\n]}").toString();
+    }
+
+    private String entry(Program statement, String kind, String source, String fields) {
+        String entry = "{\"kind\": \"" + kind + "\", \"source\": \"" + source + "\"";
+        int id = positions == null ? -1 : positions.id(statement);
+        if (id >= 0) {
+            long start = positions.start(id);
+            entry += ", \"start\": " + start + ", \"end\": " + positions.end(id)
+                    + ", \"line\": " + positions.line(start) + ", \"column\": " + positions.column(start);
+        }
+        entry += ", \"count\": " + profiler.count(statement) + fields;
+        if (profiler.isTiming()) {
+            entry += ", \"nanos\": " + profiler.nanos(statement);
+        }
+        return entry + "}";
+    }
+}
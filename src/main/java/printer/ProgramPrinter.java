@@ -10,30 +10,78 @@ The `ProgramPrinter` is used for string serialization of a given `Program`.
 /*!- Header */
 package printer;
 
-import interpreter.Visitor;
+import expression.Expression;
 import program.*;
 
+import java.io.IOException;
+
 /*!
 The `ProgramPrinter` implements the string serialization with the help of the
-[Visitor](${basePath}/src/main/java/interpreter/Visitor.java.html).
+[ProgramVisitor](${basePath}/src/main/java/program/ProgramVisitor.java.html).
+
+Just like the [ExpressionPrinter](${basePath}/src/main/java/printer/ExpressionPrinter.java.html) it keeps an explicit
+`stack` of strings and programs still to print instead of recursively concatenating strings. This way printing takes
+time linear in the size of the program, the depth of the program is not limited by the size of the Java stack and the
+output can be streamed to a `Writer` without building it in memory first. Expressions on the stack are printed by
+the `ExpressionPrinter`.
 */
-public class ProgramPrinter extends Visitor<String> {
+public class ProgramPrinter implements ProgramVisitor<Void> {
     private final ExpressionPrinter printer = new ExpressionPrinter();
+    private Object[] stack = new Object[16];
+    private int size;
+
+    private void push(Object item) {
+        if (size == stack.length) {
+            Object[] larger = new Object[size * 2];
+            System.arraycopy(stack, 0, larger, 0, size);
+            stack = larger;
+        }
+        stack[size++] = item;
+    }
 
-    public String visitAssignment(Assignment assignment) {
-        return printer.print(assignment.identifier) + " := " + printer.print(assignment.expression);
+    public Void visitAssignment(Assignment assignment) {
+        push(assignment.expression);
+        push(" := ");
+        push(assignment.identifier);
+        return null;
     }
 
-    public String visitComposition(Composition composition) {
-        return visit(composition.first) + " ; " + visit(composition.second);
+    /*! The statements of a `Block` are pushed from the last to the first, separated by ` ; `. */
+    public Void visitBlock(Block block) {
+        for (int i = block.statements.length - 1; i >= 0; i--) {
+            push(block.statements[i]);
+            if (i > 0) {
+                push(" ; ");
+            }
+        }
+        return null;
     }
 
-    public String visitConditional(Conditional conditional) {
-        return "if (" + printer.print(conditional.condition) + ") then { " + visit(conditional.thenCase) +  " } else { " + visit(conditional.elseCase) + " }";
+    public Void visitComposition(Composition composition) {
+        push(composition.second);
+        push(" ; ");
+        push(composition.first);
+        return null;
     }
 
-    public String visitLoop(Loop loop) {
-        return "while (" + printer.print(loop.condition) + ") { " + visit(loop.program) +  " }";
+    public Void visitConditional(Conditional conditional) {
+        push(" }");
+        push(conditional.elseCase);
+        push(" } else { ");
+        push(conditional.thenCase);
+        push(") then { ");
+        push(conditional.condition);
+        push("if (");
+        return null;
+    }
+
+    public Void visitLoop(Loop loop) {
+        push(" }");
+        push(loop.program);
+        push(") { ");
+        push(loop.condition);
+        push("while (");
+        return null;
     }
 
     /*!
@@ -41,6 +89,29 @@ public class ProgramPrinter extends Visitor<String> {
     the string serialization of the given program.
     */
     public String print(Program program) {
-        return visit(program);
+        StringBuilder builder = new StringBuilder();
+        try {
+            print(program, builder);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return builder.toString();
+    }
+
+    /*! The second `print` function appends the string serialization to the given `out`, e.g. a `Writer`. */
+    public void print(Program program, Appendable out) throws IOException {
+        int bottom = size;
+        push(program);
+        while (size > bottom) {
+            Object item = stack[--size];
+            stack[size] = null;
+            if (item instanceof String) {
+                out.append((String) item);
+            } else if (item instanceof Program) {
+                ((Program) item).accept(this);
+            } else {
+                printer.print((Expression) item, out);
+            }
+        }
     }
 }
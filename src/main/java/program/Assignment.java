@@ -24,12 +24,21 @@ represents the code
     x := 5
 */
 public class Assignment extends Program {
+    private static final int SEED = 0x1B873593;
+
     public final Identifier identifier;
     public final Expression expression;
+    private final int hashCode;
 
     public Assignment(Identifier identifier, Expression expression) {
         this.identifier = identifier;
         this.expression = expression;
+        this.hashCode = 31 * (31 * SEED + identifier.hashCode()) + expression.hashCode();
+    }
+
+    @Override
+    public <T> T accept(ProgramVisitor<T> visitor) {
+        return visitor.visitAssignment(this);
     }
 
     /*!- generated equals method */
@@ -39,8 +48,14 @@ public class Assignment extends Program {
         if (o == null || getClass() != o.getClass()) return false;
 
         Assignment that = (Assignment) o;
+        if (hashCode != that.hashCode) return false;
 
         if (!identifier.equals(that.identifier)) return false;
         return expression.equals(that.expression);
     }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
 }
@@ -0,0 +1,50 @@
+/*!! Program */
+
+/*!
+Block
+=====
+*/
+
+/*!- Header */
+package program;
+
+import java.util.Arrays;
+
+/*! A `Block` combines a sequence of `statements` with the intended semantics of sequential composition, i.e. it means
+the same as the `Composition` of all its statements. The parser creates a `Block` for every sequence of statements
+instead of a chain of `Composition`s, because such a chain is as deep as the program is long and all recursive
+functions walking along it (executing, printing, comparing) would run out of stack for large programs. A `Block` is
+walked with a simple loop. */
+public class Block extends Program {
+    private static final int SEED = 0x4F1BBCDD;
+
+    public final Program[] statements;
+    private final int hashCode;
+
+    public Block(Program... statements) {
+        this.statements = statements;
+        this.hashCode = 31 * SEED + Arrays.hashCode(statements);
+    }
+
+    @Override
+    public <T> T accept(ProgramVisitor<T> visitor) {
+        return visitor.visitBlock(this);
+    }
+
+    /*!- generated equals implementation */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Block block = (Block) o;
+        if (hashCode != block.hashCode) return false;
+
+        return Arrays.equals(statements, block.statements);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
@@ -11,12 +11,21 @@ package program;
 /*! A `Composition` combines two programs (`first` and `second`) with the intended semantics of sequential
 composition. */
 public class Composition extends Program {
+    private static final int SEED = 0x3C6EF372;
+
     public final Program first;
     public final Program second;
+    private final int hashCode;
 
     public Composition(Program first, Program second) {
         this.first = first;
         this.second = second;
+        this.hashCode = 31 * (31 * SEED + first.hashCode()) + second.hashCode();
+    }
+
+    @Override
+    public <T> T accept(ProgramVisitor<T> visitor) {
+        return visitor.visitComposition(this);
     }
 
     /*!- generated equals implementation */
@@ -26,8 +35,14 @@ public class Composition extends Program {
         if (o == null || getClass() != o.getClass()) return false;
 
         Composition that = (Composition) o;
+        if (hashCode != that.hashCode) return false;
 
         if (!first.equals(that.first)) return false;
         return second.equals(that.second);
     }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
 }
@@ -13,14 +13,23 @@ import expression.Expression;
 /*! A `Conditional` consists of the `condition` expression and the two programs `thenCase` and `elseCase` with the
 intended semantics of execution the `elseCase` if the `expression` evaluates to 0 and the `thenCase` otherwise. */
 public class Conditional extends Program {
+    private static final int SEED = 0x7F4A7C15;
+
     public final Expression condition;
     public final Program thenCase;
     public final Program elseCase;
+    private final int hashCode;
 
     public Conditional(Expression condition, Program thenCase, Program elseCase) {
         this.condition = condition;
         this.thenCase = thenCase;
         this.elseCase = elseCase;
+        this.hashCode = 31 * (31 * (31 * SEED + condition.hashCode()) + thenCase.hashCode()) + elseCase.hashCode();
+    }
+
+    @Override
+    public <T> T accept(ProgramVisitor<T> visitor) {
+        return visitor.visitConditional(this);
     }
 
     /*!- generated equals implementation */
@@ -30,10 +39,16 @@ public class Conditional extends Program {
         if (o == null || getClass() != o.getClass()) return false;
 
         Conditional that = (Conditional) o;
+        if (hashCode != that.hashCode) return false;
 
         if (!condition.equals(that.condition)) return false;
         if (!thenCase.equals(that.thenCase)) return false;
         return elseCase.equals(that.elseCase);
 
     }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
 }
@@ -13,12 +13,21 @@ import expression.Expression;
 /*! A `Loop` consists of a `condition` and a `program` with the intended semantics of execution the `program` while
 the `condition` evaluates to a non-zero value. */
 public class Loop extends Program {
+    private static final int SEED = 0x6C8E9CF5;
+
     public final Expression condition;
     public final Program program;
+    private final int hashCode;
 
     public Loop(Expression condition, Program program) {
         this.condition = condition;
         this.program = program;
+        this.hashCode = 31 * (31 * SEED + condition.hashCode()) + program.hashCode();
+    }
+
+    @Override
+    public <T> T accept(ProgramVisitor<T> visitor) {
+        return visitor.visitLoop(this);
     }
 
     /*!- generated equals implementation */
@@ -28,9 +37,15 @@ public class Loop extends Program {
         if (o == null || getClass() != o.getClass()) return false;
 
         Loop loop = (Loop) o;
+        if (hashCode != loop.hashCode) return false;
 
         if (!condition.equals(loop.condition)) return false;
         return program.equals(loop.program);
 
     }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
 }
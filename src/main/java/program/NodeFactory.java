@@ -0,0 +1,119 @@
+/*!! Program */
+
+/*!
+NodeFactory
+===========
+
+Generated programs repeat the same identifiers, numbers and even whole expressions and statements over and over
+again. The `NodeFactory` creates every distinct node only once and returns the existing node if an equal one is
+requested again. This technique is known as [hash consing](https://en.wikipedia.org/wiki/Hash_consing). A program
+built with a `NodeFactory` is a _directed acyclic graph_ in which equal subtrees are shared:
+
+    NodeFactory factory = new NodeFactory();
+    Expression first = factory.addition(factory.identifier("x"), factory.integer(1));
+    Expression second = factory.addition(factory.identifier("x"), factory.integer(1));
+    // first == second
+
+The [Parser](${basePath}/src/main/java/parser/Parser.java.html) uses a `NodeFactory` if one is given to its
+constructor.
+*/
+
+/*!- Header */
+package program;
+
+import expression.*;
+
+import java.math.BigInteger;
+
+/*! As all nodes are immutable, sharing them cannot be observed by looking at the program. Only identity based
+tables, like the [SourceMap](${basePath}/src/main/java/parser/SourceMap.java.html) or the
+[Profiler](${basePath}/src/main/java/interpreter/Profiler.java.html), see a shared node only once.
+
+The children of a node are always created by the factory before the node itself, so they are shared already. Comparing
+two candidates therefore compares their cached hash codes and then their children, which `equals` does by reference
+first. Looking up a node takes constant time instead of time proportional to the size of its subtree.
+
+The nodes are stored in a hash table with open addressing. It is at most half full, so there is always an empty entry
+ending the search. */
+public final class NodeFactory {
+    private Object[] table = new Object[1024];
+    private int size;
+
+    public Identifier identifier(String name) {
+        return intern(new Identifier(name));
+    }
+
+    public Int integer(int value) {
+        return intern(new Int(value));
+    }
+
+    public Int integer(BigInteger value) {
+        return intern(new Int(value));
+    }
+
+    public Addition addition(Expression leftHandSide, Expression rightHandSide) {
+        return intern(new Addition(leftHandSide, rightHandSide));
+    }
+
+    public Subtraction subtraction(Expression leftHandSide, Expression rightHandSide) {
+        return intern(new Subtraction(leftHandSide, rightHandSide));
+    }
+
+    public Assignment assignment(Identifier identifier, Expression expression) {
+        return intern(new Assignment(identifier, expression));
+    }
+
+    public Block block(Program... statements) {
+        return intern(new Block(statements));
+    }
+
+    public Composition composition(Program first, Program second) {
+        return intern(new Composition(first, second));
+    }
+
+    public Conditional conditional(Expression condition, Program thenCase, Program elseCase) {
+        return intern(new Conditional(condition, thenCase, elseCase));
+    }
+
+    public Loop loop(Expression condition, Program program) {
+        return intern(new Loop(condition, program));
+    }
+
+    /*! The number of distinct nodes created so far. */
+    public int size() {
+        return size;
+    }
+
+    /*! `intern` returns the node equal to the given one that has been created before or the given node if there is
+    none. The given node has just been created by one of the methods above, so it is garbage if an equal node exists
+    already. */
+    @SuppressWarnings("unchecked")
+    private <T> T intern(T node) {
+        int entry = find(table, node);
+        if (table[entry] != null) {
+            return (T) table[entry];
+        }
+        table[entry] = node;
+        size += 1;
+        if (2 * size > table.length) {
+            Object[] larger = new Object[2 * table.length];
+            for (Object existing : table) {
+                if (existing != null) {
+                    larger[find(larger, existing)] = existing;
+                }
+            }
+            table = larger;
+        }
+        return node;
+    }
+
+    private static int find(Object[] table, Object node) {
+        int mask = table.length - 1;
+        int hash = node.hashCode() * 0x9e3779b9;
+        int entry = (hash ^ hash >>> 16) & mask;
+        while (table[entry] != null && !table[entry].equals(node)) {
+            entry = (entry + 1) & mask;
+        }
+        return entry;
+    }
+}
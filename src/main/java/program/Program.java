@@ -9,6 +9,7 @@ Program
 
     Program = Assignment(identifier: Identifier, expression: Expression)
             | Composition(first: Program, second: Program)
+            | Block(statements: Program[])
             | Loop(condition: Expression, program: Program)
             | Conditional(condition: Expression, thenCase: Program, elseCase: Program)
 */
@@ -16,5 +17,14 @@ Program
 /*!- Header */
 package program;
 
-/*! `Program` is the abstract common class for programs that can be executed using the `Interpreter`. */
-abstract public class Program { }
+/*! `Program` is the abstract common class for programs that can be executed using the `Interpreter`. Every program
+can be visited by a [ProgramVisitor](${basePath}/src/main/java/program/ProgramVisitor.java.html).
+
+Like expressions, programs implement `equals` and `hashCode` based on their structure. Each program computes its hash
+code in the constructor from the already known hash codes of its parts, which allows using programs as keys of hash
+maps without walking the whole tree. Every kind of program starts its hash code with a `SEED` of its own, so for
+example a `Loop` and a `Composition` of parts with the same hash codes do not collide. The
+[NodeFactory](${basePath}/src/main/java/program/NodeFactory.java.html) uses this to share equal subtrees. */
+abstract public class Program {
+    public abstract <T> T accept(ProgramVisitor<T> visitor);
+}
@@ -0,0 +1,29 @@
+/*!! Program */
+
+/*!
+ProgramVisitor
+==============
+
+The interpreter and the printer are performing structural recursion on the inductive data structure `Program`. We
+want to define one function that behaves differently depending on the argument. In functional languages this is done
+with [Pattern Matching](https://de.wikipedia.org/wiki/Pattern_Matching#Programmierung) and in Java this is typically
+implemented using the [Visitor Pattern](https://en.wikipedia.org/wiki/Visitor_pattern).
+*/
+
+/*!- Header */
+package program;
+
+/*! A `ProgramVisitor` provides one `visit` method for every kind of `Program`. The method returns a result of type
+`T`, e.g. a `String` for the printer. Visitors without a result use `Void` and return `null`.
+
+Every `Program` implements `accept` by calling the `visit` method for its own class. Calling
+`program.accept(visitor)` therefore selects the right method with two ordinary virtual calls (this is called
+[Double Dispatch](https://en.wikipedia.org/wiki/Double_dispatch)) instead of searching the method by its name with
+reflection. The JIT compiler can inline these calls, and exceptions thrown by a visitor are not wrapped. */
+public interface ProgramVisitor<T> {
+    T visitAssignment(Assignment assignment);
+    T visitBlock(Block block);
+    T visitComposition(Composition composition);
+    T visitConditional(Conditional conditional);
+    T visitLoop(Loop loop);
+}
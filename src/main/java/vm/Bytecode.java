@@ -0,0 +1,76 @@
+/*!! VM */
+
+/*!
+Bytecode
+========
+
+As a middle ground between the tree walking `Interpreter` and the `Compiler` generating JVM classes, the virtual
+machine in this package runs programs that have been lowered to a flat array of simple instructions (see
+[Opcode](${basePath}/src/main/java/vm/Opcode.java.html)).
+*/
+
+/*!- Header */
+package vm;
+
+import interpreter.Budget;
+import interpreter.Frame;
+import interpreter.Limits;
+import interpreter.Slots;
+import program.Program;
+
+import java.util.Map;
+
+/*! `Bytecode` holds the instructions of a lowered program. It can be used as follows on a given `program` of type
+`Program`.
+
+    Bytecode bytecode = Bytecode.lower(program);
+    System.out.println(bytecode.run());
+
+Every run starts with an empty valuation and returns the final valuation, which is the same the `Interpreter` would
+compute. */
+public final class Bytecode {
+    private final int[] code;
+    private final int registers;
+    private final Slots slots;
+
+    Bytecode(int[] code, int registers, Slots slots) {
+        this.code = code;
+        this.registers = registers;
+        this.slots = slots;
+    }
+
+    public static Bytecode lower(Program program) {
+        return new Lowering(new Slots()).lower(program);
+    }
+
+    public Map<String, Integer> run() {
+        return run(Limits.NONE);
+    }
+
+    /*! Raises a `LimitExceededException` if the run exceeds the given `limits`. */
+    public Map<String, Integer> run(Limits limits) {
+        Frame frame = new Frame(slots);
+        Budget budget = limits.start();
+        if (!Machine.execute(code, new int[registers], slots, frame.values, frame.defined, budget)) {
+            throw budget.exceeded(frame.getValuation());
+        }
+        return frame.getValuation();
+    }
+
+    /*! The instructions can be printed one per line, prefixed with their index. */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        int pc = 0;
+        while (pc < code.length) {
+            int opcode = code[pc];
+            builder.append(pc).append(": ").append(Opcode.NAMES[opcode]);
+            for (int i = 1; i <= Opcode.OPERANDS[opcode]; i++) {
+                builder.append(' ').append(code[pc + i]);
+            }
+            builder.append('\n');
+            pc += 1 + Opcode.OPERANDS[opcode];
+        }
+        return builder.toString();
+    }
+}
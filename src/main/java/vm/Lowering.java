@@ -0,0 +1,237 @@
+/*!! VM */
+
+/*!
+Lowering
+========
+
+The `Lowering` translates a `Program` into the flat instruction array executed by the
+[Machine](${basePath}/src/main/java/vm/Machine.java.html).
+*/
+
+/*!- Header */
+package vm;
+
+import expression.*;
+import interpreter.Slots;
+import program.*;
+
+import java.util.BitSet;
+
+/*! The variables of the program are the first registers, so a variable can be used as operand of an instruction
+directly. Intermediate results are stored in the registers behind the variables, which are used like a stack: the
+`operand` of an expression visited while `top` temporary registers are in use is either a variable or the temporary
+register `top`.
+
+As the number of variables is only known at the end, temporary registers are emitted as negative numbers `-1`, `-2`,
+... and replaced by the registers behind the variables in the end.
+
+Jumps to instructions that have not been generated yet are written with a placeholder target, which is replaced once
+the target is known. */
+final class Lowering implements ProgramVisitor<Void>, ExpressionVisitor<Void> {
+    private final Slots slots;
+    private int[] code = new int[64];
+    private int length;
+    private int top;
+    private int temporaries;
+    /*! The register holding the value of the last visited expression. */
+    private int operand;
+
+    /*! Reading a variable that has not been assigned raises an `InterpreterException`, just like in the
+    `Interpreter`. We only emit `CHECK` for variables that are not _definitely assigned_, i.e. have not been assigned on
+    every path leading to the current point of the program, and `DEFINE` only when they are assigned the first time. */
+    private BitSet assigned = new BitSet();
+
+    Lowering(Slots slots) {
+        this.slots = slots;
+    }
+
+    Bytecode lower(Program program) {
+        program.accept(this);
+        emit(Opcode.HALT);
+        int[] result = new int[length];
+        int pc = 0;
+        while (pc < length) {
+            int opcode = code[pc];
+            result[pc] = opcode;
+            for (int i = 1; i <= Opcode.OPERANDS[opcode]; i++) {
+                int value = code[pc + i];
+                boolean register = i == 1
+                        ? opcode != Opcode.JMP
+                        : opcode != Opcode.CONST && opcode != Opcode.JZ && opcode != Opcode.JNZ;
+                result[pc + i] = register && value < 0 ? slots.size() - 1 - value : value;
+            }
+            pc += 1 + Opcode.OPERANDS[opcode];
+        }
+        return new Bytecode(result, slots.size() + temporaries, slots);
+    }
+
+    private void emit(int value) {
+        if (length == code.length) {
+            int[] larger = new int[code.length * 2];
+            System.arraycopy(code, 0, larger, 0, length);
+            code = larger;
+        }
+        code[length++] = value;
+    }
+
+    private void emit(int opcode, int operand) {
+        emit(opcode);
+        emit(operand);
+    }
+
+    private void emit(int opcode, int first, int second) {
+        emit(opcode, first);
+        emit(second);
+    }
+
+    private void emit(int opcode, int first, int second, int third) {
+        emit(opcode, first, second);
+        emit(third);
+    }
+
+    /*! The temporary register `index` (counting from 0). */
+    private int temporary(int index) {
+        temporaries = Math.max(temporaries, index + 1);
+        return -1 - index;
+    }
+
+    private void patch(int operand) {
+        code[operand] = length;
+    }
+
+    /*!
+    Programs
+    --------
+
+    An assignment writes the result of its expression directly into the register of the variable.
+
+        x ":=" y        ->   MOVE x y
+        x ":=" z        ->   CONST x z
+        x ":=" e1 + e2  ->   ADD x e1 e2
+    */
+    public Void visitAssignment(Assignment assignment) {
+        int slot = slots.slot(assignment.identifier.name);
+        Expression expression = assignment.expression;
+        if (expression instanceof Int) {
+            emit(Opcode.CONST, slot, ((Int) expression).value);
+        } else if (expression instanceof Addition) {
+            binary(Opcode.ADD, slot, ((Addition) expression).leftHandSide, ((Addition) expression).rightHandSide);
+        } else if (expression instanceof Subtraction) {
+            binary(Opcode.SUB, slot, ((Subtraction) expression).leftHandSide, ((Subtraction) expression).rightHandSide);
+        } else {
+            expression.accept(this);
+            emit(Opcode.MOVE, slot, operand);
+        }
+        if (!assigned.get(slot)) {
+            emit(Opcode.DEFINE, slot);
+            assigned.set(slot);
+        }
+        return null;
+    }
+
+    public Void visitBlock(Block block) {
+        for (Program statement : block.statements) {
+            statement.accept(this);
+        }
+        return null;
+    }
+
+    public Void visitComposition(Composition composition) {
+        composition.first.accept(this);
+        composition.second.accept(this);
+        return null;
+    }
+
+    /*!
+        "if" "(" e ")" "then" "{" c1 "}" "else" "{" c2 "}"   ->      JZ e else
+                                                                    c1; JMP end
+                                                             else:  c2
+                                                             end:
+
+    Afterwards only the variables assigned in both cases are definitely assigned.
+    */
+    public Void visitConditional(Conditional conditional) {
+        conditional.condition.accept(this);
+        emit(Opcode.JZ, operand, -1);
+        int elseCase = length - 1;
+        BitSet before = (BitSet) assigned.clone();
+        conditional.thenCase.accept(this);
+        emit(Opcode.JMP, -1);
+        int end = length - 1;
+        BitSet afterThenCase = assigned;
+        assigned = before;
+        patch(elseCase);
+        conditional.elseCase.accept(this);
+        patch(end);
+        assigned.and(afterThenCase);
+        return null;
+    }
+
+    /*!
+        "while" "(" e ")" "{" c "}"   ->              JMP condition
+                                           program:    c
+                                           condition:  JNZ e program
+
+    The condition is placed behind the program, so every iteration only needs one jump. The program might not be
+    executed at all, so variables assigned in it are not definitely assigned after the loop. The condition is
+    evaluated before the first iteration as well, so it is lowered with the variables definitely assigned before the
+    loop.
+    */
+    public Void visitLoop(Loop loop) {
+        emit(Opcode.JMP, -1);
+        int condition = length - 1;
+        int program = length;
+        BitSet before = (BitSet) assigned.clone();
+        loop.program.accept(this);
+        assigned = before;
+        patch(condition);
+        loop.condition.accept(this);
+        emit(Opcode.JNZ, operand, program);
+        return null;
+    }
+
+    /*!
+    Expressions
+    -----------
+    */
+    public Void visitAddition(Addition addition) {
+        binary(Opcode.ADD, temporary(top), addition.leftHandSide, addition.rightHandSide);
+        operand = temporary(top);
+        return null;
+    }
+
+    public Void visitSubtraction(Subtraction subtraction) {
+        binary(Opcode.SUB, temporary(top), subtraction.leftHandSide, subtraction.rightHandSide);
+        operand = temporary(top);
+        return null;
+    }
+
+    /*! The left hand side may use the temporary register `top`. If its value ends up there, the right hand side uses
+    the next one. The result is written to `target` only after both sides have been evaluated. */
+    private void binary(int opcode, int target, Expression leftHandSide, Expression rightHandSide) {
+        leftHandSide.accept(this);
+        int left = operand;
+        int saved = top;
+        if (left < 0) {
+            top += 1;
+        }
+        rightHandSide.accept(this);
+        top = saved;
+        emit(opcode, target, left, operand);
+    }
+
+    public Void visitIdentifier(Identifier identifier) {
+        int slot = slots.slot(identifier.name);
+        if (!assigned.get(slot)) {
+            emit(Opcode.CHECK, slot);
+        }
+        operand = slot;
+        return null;
+    }
+
+    public Void visitInt(Int integer) {
+        operand = temporary(top);
+        emit(Opcode.CONST, operand, integer.value);
+        return null;
+    }
+}
@@ -0,0 +1,85 @@
+/*!! VM */
+
+/*!
+Machine
+=======
+
+The `Machine` executes the instructions created by the [Lowering](${basePath}/src/main/java/vm/Lowering.java.html)
+in a single loop. Loops of the program are backward jumps and conditionals are forward jumps, so running a program
+neither recurses nor allocates anything.
+*/
+
+/*!- Header */
+package vm;
+
+import interpreter.Budget;
+import interpreter.InterpreterException;
+import interpreter.Slots;
+
+/*! The first registers are the variables, so `registers` starts as a copy of the `values` of a
+[Frame](${basePath}/src/main/java/interpreter/Frame.java.html) and the variables are copied back at the end. The
+frame's `defined` array is used directly by `CHECK` and `DEFINE`.
+
+`JNZ` is only used by loops to jump back to their body, so every `JNZ` taken counts one step of the `budget`. If the
+budget is exceeded, the machine copies the variables back and returns `false` instead of `true`. */
+final class Machine {
+    private Machine() {
+    }
+
+    static boolean execute(int[] code, int[] registers, Slots slots, int[] values, boolean[] defined, Budget budget) {
+        System.arraycopy(values, 0, registers, 0, values.length);
+        int pc = 0;
+        while (true) {
+            switch (code[pc]) {
+                case Opcode.CONST:
+                    registers[code[pc + 1]] = code[pc + 2];
+                    pc += 3;
+                    break;
+                case Opcode.MOVE:
+                    registers[code[pc + 1]] = registers[code[pc + 2]];
+                    pc += 3;
+                    break;
+                case Opcode.ADD:
+                    registers[code[pc + 1]] = registers[code[pc + 2]] + registers[code[pc + 3]];
+                    pc += 4;
+                    break;
+                case Opcode.SUB:
+                    registers[code[pc + 1]] = registers[code[pc + 2]] - registers[code[pc + 3]];
+                    pc += 4;
+                    break;
+                case Opcode.JZ:
+                    pc = registers[code[pc + 1]] == 0 ? code[pc + 2] : pc + 3;
+                    break;
+                case Opcode.JNZ:
+                    if (registers[code[pc + 1]] != 0) {
+                        if (budget.step()) {
+                            System.arraycopy(registers, 0, values, 0, values.length);
+                            return false;
+                        }
+                        pc = code[pc + 2];
+                    } else {
+                        pc += 3;
+                    }
+                    break;
+                case Opcode.JMP:
+                    pc = code[pc + 1];
+                    break;
+                case Opcode.CHECK:
+                    if (!defined[code[pc + 1]]) {
+                        throw new InterpreterException("Identifier " + slots.name(code[pc + 1]) + " not found.");
+                    }
+                    pc += 2;
+                    break;
+                case Opcode.DEFINE:
+                    defined[code[pc + 1]] = true;
+                    pc += 2;
+                    break;
+                case Opcode.HALT:
+                    System.arraycopy(registers, 0, values, 0, values.length);
+                    return true;
+                default:
+                    throw new IllegalStateException("Invalid opcode " + code[pc] + " at " + pc);
+            }
+        }
+    }
+}
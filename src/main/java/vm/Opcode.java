@@ -0,0 +1,48 @@
+/*!! VM */
+
+/*!
+Opcode
+======
+
+The instruction set of the [Machine](${basePath}/src/main/java/vm/Machine.java.html). An instruction is stored as
+its opcode followed by its operands in consecutive elements of an `int` array. `r`, `a` and `b` are registers, `k` is
+a constant and `t` is the index of an instruction in the array.
+
+    CONST r k     r := k
+    MOVE r a      r := a
+    ADD r a b     r := a + b
+    SUB r a b     r := a - b
+    JZ a t        continue at t if a = 0
+    JNZ a t       continue at t if a != 0 (only used to start the next iteration of a loop)
+    JMP t         continue at t
+    CHECK r       fail if the variable in r has not been assigned
+    DEFINE r      mark the variable in r as assigned
+    HALT          stop
+
+The first registers hold the variables of the program, indexed by their slots. `CHECK` and `DEFINE` load and store
+the flags that tell whether a variable has been assigned. The registers behind the variables hold intermediate
+results.
+*/
+
+/*!- Header */
+package vm;
+
+final class Opcode {
+    static final int CONST = 0;
+    static final int MOVE = 1;
+    static final int ADD = 2;
+    static final int SUB = 3;
+    static final int JZ = 4;
+    static final int JNZ = 5;
+    static final int JMP = 6;
+    static final int CHECK = 7;
+    static final int DEFINE = 8;
+    static final int HALT = 9;
+
+    /*! The names and the number of operands of each opcode are only needed to print the instructions. */
+    static final String[] NAMES = {"CONST", "MOVE", "ADD", "SUB", "JZ", "JNZ", "JMP", "CHECK", "DEFINE", "HALT"};
+    static final int[] OPERANDS = {2, 2, 3, 3, 2, 2, 1, 1, 1, 0};
+
+    private Opcode() {
+    }
+}
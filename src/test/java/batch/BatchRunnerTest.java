@@ -0,0 +1,91 @@
+package batch;
+
+import interpreter.InterpreterException;
+import interpreter.LimitExceededException;
+import interpreter.Limits;
+import org.junit.Test;
+import parser.SyntaxException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BatchRunnerTest {
+    private static void write(Path directory, String name, String code) throws IOException {
+        Files.write(directory.resolve(name), code.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testRun() throws IOException {
+        Path directory = Files.createTempDirectory("batch");
+        for (int i = 0; i < 50; i++) {
+            write(directory, String.format("p%02d.whl", i), "a := " + i + " ; r := 0 ; while (a) { r := r + 2 ; a := a - 1 }");
+        }
+        write(directory, "p10a.whl", "a := ");
+        write(directory, "p10b.whl", "a := b");
+        write(directory, "p10c.whl", "a := 1 ; while (a) { b := a }");
+        write(directory, "readme.txt", "not a program");
+
+        List<BatchRunner.Result> results = new BatchRunner(4, Limits.steps(1000)).run(BatchRunner.files(directory));
+        assertEquals(53, results.size());
+        assertEquals("p00.whl: {a=0, r=0}", results.get(0).toString());
+        assertEquals("p10.whl: {a=0, r=20}", results.get(10).toString());
+        assertTrue(results.get(11).error instanceof SyntaxException);
+        assertTrue(results.get(12).error instanceof InterpreterException);
+        assertTrue(results.get(13).error instanceof LimitExceededException);
+        assertEquals("p49.whl: {a=0, r=98}", results.get(52).toString());
+
+        for (Path file : Files.newDirectoryStream(directory)) {
+            Files.delete(file);
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    public void testStackOverflow() throws IOException {
+        Path directory = Files.createTempDirectory("batch");
+        StringBuilder prefix = new StringBuilder();
+        StringBuilder suffix = new StringBuilder();
+        for (int i = 0; i < 200000; i++) {
+            prefix.append('(');
+            suffix.append(')');
+        }
+        write(directory, "a.whl", "a := " + prefix + "1" + suffix);
+        write(directory, "b.whl", "b := 2");
+
+        List<BatchRunner.Result> results = new BatchRunner(2).run(BatchRunner.files(directory));
+        assertTrue(results.get(0).error instanceof StackOverflowError);
+        assertEquals("b.whl: {b=2}", results.get(1).toString());
+
+        for (Path file : Files.newDirectoryStream(directory)) {
+            Files.delete(file);
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    public void testInterrupted() throws IOException {
+        Path directory = Files.createTempDirectory("batch");
+        write(directory, "a.whl", "a := 1");
+        write(directory, "b.whl", "b := 2");
+
+        Thread.currentThread().interrupt();
+        List<BatchRunner.Result> results = new BatchRunner(2).run(BatchRunner.files(directory));
+        assertTrue(Thread.interrupted());
+        assertEquals(2, results.size());
+        assertEquals("a.whl", results.get(0).name);
+        assertTrue(results.get(0).error instanceof InterruptedException);
+        assertEquals("b.whl", results.get(1).name);
+        assertTrue(results.get(1).error instanceof InterruptedException);
+
+        for (Path file : Files.newDirectoryStream(directory)) {
+            Files.delete(file);
+        }
+        Files.delete(directory);
+    }
+}
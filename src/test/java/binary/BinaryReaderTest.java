@@ -0,0 +1,106 @@
+package binary;
+
+import org.junit.Test;
+import parser.Parser;
+import printer.ProgramPrinter;
+import program.Program;
+import program.RandomPrograms;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.*;
+
+public class BinaryReaderTest {
+    private final ProgramPrinter printer = new ProgramPrinter();
+
+    private static Program roundTrip(Program program) {
+        return BinaryReader.read(ByteBuffer.wrap(new BinaryWriter().write(program)));
+    }
+
+    private static String error(byte[] bytes) {
+        try {
+            BinaryReader.read(ByteBuffer.wrap(bytes));
+        } catch (BinaryFormatException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    @Test
+    public void testRoundTrip() {
+        String[] codes = {"a := 1", "a := -2147483648 ; b := 2147483647 ; c := -1 ; d := 0 ; e := 64 - -65",
+                "if (a - 1) then { b := a + (c - d) } else { while (b) { b := b - 1 } }",
+                "a := 1 ; if := 2 ; while (if) { then := then + if ; if := if - 1 }",
+                "a := 2147483648 - -123456789012345678901234567890"};
+        for (String code : codes) {
+            Program program = new Parser(code).parse();
+            Program loaded = roundTrip(program);
+            assertEquals(program, loaded);
+            assertEquals(printer.print(program), printer.print(loaded));
+        }
+    }
+
+    @Test
+    public void testRandomPrograms() {
+        RandomPrograms generator = new RandomPrograms(13);
+        for (int i = 0; i < 500; i++) {
+            Program program = generator.program();
+            assertEquals(printer.print(program), printer.print(roundTrip(program)));
+        }
+    }
+
+    @Test
+    public void testLargeProgram() {
+        StringBuilder code = new StringBuilder("x := 0");
+        for (int i = 0; i < 100000; i++) {
+            code.append(" ; x := x + ").append(i);
+        }
+        Program program = new Parser(code.toString()).parse();
+        byte[] bytes = new BinaryWriter().write(program);
+        assertTrue(bytes.length < code.length());
+        assertEquals(program, BinaryReader.read(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    public void testDeepExpression() {
+        StringBuilder code = new StringBuilder("x := 0");
+        for (int i = 0; i < 100000; i++) {
+            code.append(i % 2 == 0 ? " + " : " - ").append(i);
+        }
+        Program program = new Parser(code.toString()).parse();
+        assertEquals(code.toString(), printer.print(roundTrip(program)));
+    }
+
+    @Test
+    public void testFile() throws IOException {
+        Program program = new Parser("a := 2 ; b := 4 ; r := 0 ; while (a) { r := r + b ; a := a - 1 }").parse();
+        Path file = Files.createTempFile("program", ".whlb");
+        try {
+            Files.write(file, new BinaryWriter().write(program));
+            assertEquals(printer.print(program), printer.print(BinaryReader.read(file)));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testInvalidData() {
+        byte[] bytes = new BinaryWriter().write(new Parser("a := b + 1").parse());
+        assertEquals("Not a binary while program", error(new byte[] {'W', 'H', 'L', 'X', 1, 0}));
+        assertEquals("Unsupported version 2", error(new byte[] {'W', 'H', 'L', 'B', 2, 0}));
+        for (int length = 0; length < bytes.length; length++) {
+            byte[] truncated = new byte[length];
+            System.arraycopy(bytes, 0, truncated, 0, length);
+            assertNotNull(error(truncated));
+        }
+        byte[] changed = bytes.clone();
+        changed[changed.length - 2] = 42;
+        assertEquals("Unknown node kind 42", error(changed));
+        assertEquals("Program expected", error(new byte[] {'W', 'H', 'L', 'B', 1, 0, BinaryWriter.INT, 2}));
+        assertEquals("Expected one program but found 2 nodes", error(new byte[] {'W', 'H', 'L', 'B', 1, 1, 1, 'a',
+                BinaryWriter.INT, 2, BinaryWriter.ASSIGNMENT, 0, BinaryWriter.INT, 2, BinaryWriter.ASSIGNMENT, 0}));
+    }
+}
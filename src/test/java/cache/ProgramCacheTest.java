@@ -0,0 +1,98 @@
+package cache;
+
+import org.junit.Test;
+import parser.Parser;
+import parser.SyntaxException;
+import program.Program;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class ProgramCacheTest {
+    private static final String MULT = "a := 2 ; b := 4 ; r := 0 ; while (a) { r := r + b ; a := a - 1 }";
+
+    @Test
+    public void testHit() {
+        ProgramCache cache = new ProgramCache(10);
+        Program program = cache.parse(MULT);
+        assertEquals(new Parser(MULT).parse(), program);
+        assertSame(program, cache.parse(new String(MULT)));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsed() {
+        ProgramCache cache = new ProgramCache(2);
+        Program a = cache.parse("a := 1");
+        cache.parse("b := 1");
+        cache.parse("a := 1");
+        cache.parse("c := 1");
+        assertEquals(2, cache.size());
+        assertSame(a, cache.parse("a := 1"));
+        assertEquals(2, cache.getHits());
+        cache.parse("b := 1");
+        assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    public void testOptimizeAndCompile() {
+        ProgramCache cache = new ProgramCache(10);
+        Program optimized = cache.optimize("x := 1 + 2");
+        assertEquals(new Parser("x := 3").parse(), optimized);
+        assertSame(optimized, cache.optimize("x := 1 + 2"));
+        assertNotSame(optimized, cache.parse("x := 1 + 2"));
+        assertEquals(8, cache.compile(MULT).run().get("r").intValue());
+        assertSame(cache.compile(MULT), cache.compile(MULT));
+    }
+
+    @Test(expected = SyntaxException.class)
+    public void testSyntaxError() {
+        new ProgramCache(10).parse("a := ");
+    }
+
+    @Test
+    public void testSyntaxErrorNotCached() {
+        ProgramCache cache = new ProgramCache(10);
+        for (int i = 0; i < 2; i++) {
+            try {
+                cache.parse("a := ");
+                fail();
+            } catch (SyntaxException e) {
+                assertEquals(0, cache.size());
+            }
+        }
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void testConcurrentRequests() throws Exception {
+        final ProgramCache cache = new ProgramCache(10);
+        final Program[] programs = new Program[8];
+        Thread[] threads = new Thread[programs.length];
+        for (int i = 0; i < threads.length; i++) {
+            final int index = i;
+            threads[i] = new Thread(new Runnable() {
+                public void run() {
+                    programs[index] = cache.optimize(MULT);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (Program program : programs) {
+            assertSame(programs[0], program);
+        }
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testHashCode() {
+        assertEquals(new Parser(MULT).parse().hashCode(), new Parser(MULT).parse().hashCode());
+        assertEquals(new Parser("x := a + b").parse().hashCode(), new Parser("x := (a + b)").parse().hashCode());
+    }
+}
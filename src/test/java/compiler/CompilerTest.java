@@ -0,0 +1,164 @@
+package compiler;
+
+import expression.Addition;
+import expression.Identifier;
+import expression.Int;
+import expression.Subtraction;
+import interpreter.Interpreter;
+import interpreter.InterpreterException;
+import interpreter.LimitExceededException;
+import interpreter.Limits;
+import org.junit.Test;
+import parser.Parser;
+import program.*;
+import vm.Bytecode;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class CompilerTest {
+    final Compiler compiler = new Compiler();
+
+    @Test
+    public void testMult() {
+        Program program = new Parser("a := 2; b := 4; r := 0; while (a) { r := r + b ; a := a - 1 }").parse();
+        Map<String, Integer> valuation = compiler.compile(program).run();
+        assertEquals(8, valuation.get("r").intValue());
+        assertEquals(0, valuation.get("a").intValue());
+        assertEquals(4, valuation.get("b").intValue());
+    }
+
+    @Test
+    public void testRunTwice() {
+        CompiledProgram compiled = compiler.compile(new Assignment(new Identifier("x"), new Int(100000)));
+        assertEquals(compiled.run(), compiled.run());
+        assertEquals(100000, compiled.run().get("x").intValue());
+    }
+
+    @Test
+    public void testConditionalAssignsOneCase() {
+        Program program = new Conditional(new Int(0),
+                new Assignment(new Identifier("x"), new Int(1)),
+                new Assignment(new Identifier("y"), new Int(2)));
+        Map<String, Integer> valuation = compiler.compile(program).run();
+        assertEquals(1, valuation.size());
+        assertEquals(2, valuation.get("y").intValue());
+    }
+
+    @Test(expected = InterpreterException.class)
+    public void testUnknownIdentifier() {
+        compiler.compile(new Assignment(new Identifier("x"), new Identifier("y"))).run();
+    }
+
+    @Test(expected = InterpreterException.class)
+    public void testIdentifierAssignedInLoopOnly() {
+        Program program = new Composition(
+                new Loop(new Int(0), new Assignment(new Identifier("x"), new Int(1))),
+                new Assignment(new Identifier("y"), new Identifier("x")));
+        compiler.compile(program).run();
+    }
+
+    @Test
+    public void testLargeConstants() {
+        Program program = new Assignment(new Identifier("x"),
+                new Subtraction(new Addition(new Int(Integer.MAX_VALUE), new Int(1000)), new Int(-200)));
+        assertEquals(new Interpreter(program).getValuation(), compiler.compile(program).run());
+    }
+
+    @Test
+    public void testRandomPrograms() {
+        RandomPrograms generator = new RandomPrograms(42);
+        for (int i = 0; i < 500; i++) {
+            Program program = generator.program();
+            String expected;
+            try {
+                expected = new Interpreter(program).getValuation().toString();
+            } catch (InterpreterException e) {
+                expected = e.getMessage();
+            }
+            String actual;
+            try {
+                actual = compiler.compile(program).run().toString();
+            } catch (InterpreterException e) {
+                actual = e.getMessage();
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testManyVariables() {
+        Program program = new Assignment(new Identifier("x"), new Int(0));
+        for (int i = 0; i < 300; i++) {
+            Identifier identifier = new Identifier("v" + i);
+            program = new Composition(program, new Assignment(identifier, new Addition(new Identifier("x"), new Int(i))));
+        }
+        Map<String, Integer> valuation = compiler.compile(program).run();
+        assertEquals(301, valuation.size());
+        assertEquals(299, valuation.get("v299").intValue());
+    }
+
+    @Test(expected = CompilerException.class)
+    public void testTooLarge() {
+        Program body = increments(0, 10000);
+        compiler.compile(new Composition(new Assignment(new Identifier("x"), new Int(0)), new Loop(new Int(0), body)));
+    }
+
+    private Program increments(int from, int to) {
+        if (to - from == 1) {
+            return new Assignment(new Identifier("x"), new Addition(new Identifier("x"), new Int(100000 + from)));
+        }
+        int middle = (from + to) / 2;
+        return new Composition(increments(from, middle), increments(middle, to));
+    }
+
+    @Test
+    public void testStepLimit() {
+        Program program = new Parser("a := 1 ; n := 0 ; while (a) { n := n + 1 }").parse();
+        Limits limits = Limits.steps(1000);
+        try {
+            new Compiler().compile(program).run(limits);
+            fail();
+        } catch (LimitExceededException e) {
+            assertEquals(1000, e.steps);
+            assertEquals(1000, e.valuation.get("n").intValue());
+        }
+    }
+
+    @Test(expected = LimitExceededException.class)
+    public void testTimeout() {
+        Program program = new Parser("a := 1 ; n := 0 ; while (a) { n := n + 1 }").parse();
+        Limits limits = Limits.timeout(50);
+        new Compiler().compile(program).run(limits);
+    }
+
+    @Test
+    public void testPartialValuationMatchesOtherEngines() {
+        Program program = new Parser("x := 1 ; n := 1 ; while (n) { n := n + 0 } ; x := 2").parse();
+        Limits limits = Limits.steps(10);
+        Map<String, Integer> expected = new HashMap<String, Integer>();
+        expected.put("x", 1);
+        expected.put("n", 1);
+        try {
+            new Interpreter(program, new HashMap<String, Integer>(), limits);
+            fail();
+        } catch (LimitExceededException e) {
+            assertEquals(expected, e.valuation);
+        }
+        try {
+            Bytecode.lower(program).run(limits);
+            fail();
+        } catch (LimitExceededException e) {
+            assertEquals(expected, e.valuation);
+        }
+        try {
+            new Compiler().compile(program).run(limits);
+            fail();
+        } catch (LimitExceededException e) {
+            assertEquals(expected, e.valuation);
+        }
+    }
+}
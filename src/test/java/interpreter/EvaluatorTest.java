@@ -18,4 +18,21 @@ public class EvaluatorTest {
         Evaluator evaluator = new Evaluator(expression, valuation);
         assertEquals(13, evaluator.getValue());
     }
+
+    @Test
+    public void testReuse() {
+        Map<String, Integer> valuation = new HashMap<String, Integer>();
+        valuation.put("x", 7);
+        Evaluator evaluator = new Evaluator(valuation);
+        Expression expression = new Subtraction(new Identifier("x"), new Int(2));
+        assertEquals(5, evaluator.eval(expression));
+        valuation.put("x", 10);
+        assertEquals(8, evaluator.eval(expression));
+        assertEquals(8, evaluator.getValue());
+    }
+
+    @Test(expected = InterpreterException.class)
+    public void testUnknownIdentifier() {
+        new Evaluator(new HashMap<String, Integer>()).eval(new Identifier("x"));
+    }
 }
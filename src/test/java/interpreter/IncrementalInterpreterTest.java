@@ -0,0 +1,79 @@
+package interpreter;
+
+import org.junit.Test;
+import parser.Parser;
+import parser.StreamingParser;
+import printer.ProgramPrinter;
+import program.Program;
+import program.RandomPrograms;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class IncrementalInterpreterTest {
+    @Test
+    public void testExecute() {
+        IncrementalInterpreter interpreter = new IncrementalInterpreter();
+        interpreter.execute(new Parser("a := 6 ; b := 7").parse());
+        interpreter.execute(new Parser("r := 0 ; while (a) { r := r + b ; a := a - 1 }").parse());
+        Map<String, Integer> valuation = interpreter.getValuation();
+        assertEquals(42, valuation.get("r").intValue());
+        assertEquals(0, valuation.get("a").intValue());
+    }
+
+    @Test
+    public void testManyVariables() {
+        IncrementalInterpreter interpreter = new IncrementalInterpreter();
+        String name = "";
+        for (int i = 0; i < 100; i++) {
+            name += "x";
+            interpreter.execute(new Parser(name + "a := " + i + " ; " + name + "b := " + name + "a + 1").parse());
+        }
+        Map<String, Integer> valuation = interpreter.getValuation();
+        assertEquals(200, valuation.size());
+        assertEquals(100, valuation.get(name + "b").intValue());
+    }
+
+    @Test
+    public void testRandomPrograms() throws IOException {
+        RandomPrograms generator = new RandomPrograms(5);
+        for (int i = 0; i < 500; i++) {
+            Program program = generator.program();
+            String expected;
+            try {
+                expected = new Interpreter(program).getValuation().toString();
+            } catch (InterpreterException e) {
+                expected = e.getMessage();
+            }
+            StreamingParser parser = new StreamingParser(new StringReader(new ProgramPrinter().print(program)));
+            IncrementalInterpreter interpreter = new IncrementalInterpreter();
+            String actual;
+            try {
+                Program statement;
+                while ((statement = parser.next()) != null) {
+                    interpreter.execute(statement);
+                }
+                actual = interpreter.getValuation().toString();
+            } catch (InterpreterException e) {
+                actual = e.getMessage();
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testLimitsApplyToAllStatements() {
+        IncrementalInterpreter interpreter = new IncrementalInterpreter(Limits.steps(10));
+        interpreter.execute(new Parser("a := 6 ; while (a) { a := a - 1 ; b := a }").parse());
+        try {
+            interpreter.execute(new Parser("a := 6 ; while (a) { a := a - 1 ; b := a }").parse());
+            fail();
+        } catch (LimitExceededException e) {
+            assertEquals(2, interpreter.getValuation().get("a").intValue());
+        }
+    }
+}
@@ -5,13 +5,17 @@ import expression.Identifier;
 import expression.Int;
 import expression.Subtraction;
 import org.junit.Test;
+import parser.Parser;
 import program.Assignment;
 import program.Composition;
+import program.Conditional;
 import program.Loop;
 import program.Program;
+import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 public class InterpreterTest {
     @Test
@@ -32,4 +36,139 @@ public class InterpreterTest {
         assertEquals(0, valuation.get("a").intValue());
         assertEquals(4, valuation.get("b").intValue());
     }
+
+    @Test
+    public void testLongLoop() {
+        Program program = new Composition(
+                new Assignment(new Identifier("n"), new Int(100000)),
+                new Loop(new Identifier("n"),
+                        new Assignment(new Identifier("n"), new Subtraction(new Identifier("n"), new Int(1)))));
+        Interpreter interpreter = new Interpreter(program);
+        assertEquals(0, interpreter.getValuation().get("n").intValue());
+    }
+
+    @Test
+    public void testLongLoopWithConditional() {
+        Program program = new Parser("n := 100000 ; r := 0 ; "
+                + "while (n) { if (r) then { r := 0 } else { r := 1 } ; n := n - 1 }").parse();
+        Map<String, Integer> valuation = new Interpreter(program).getValuation();
+        assertEquals(0, valuation.get("n").intValue());
+        assertEquals(0, valuation.get("r").intValue());
+    }
+
+    @Test
+    public void testLinearLoop() {
+        Program program = new Parser("a := 1000000000 ; b := 7 ; c := 5 ; r := 3 ; "
+                + "while (a) { r := r + b - c ; a := a - 1 }").parse();
+        Map<String, Integer> valuation = new Interpreter(program).getValuation();
+        assertEquals(0, valuation.get("a").intValue());
+        assertEquals(3 + 1000000000 * 2, valuation.get("r").intValue());
+    }
+
+    @Test
+    public void testLinearLoopWrapsAround() {
+        Program program = new Parser("a := -1 ; r := 0 ; while (a) { a := a - 1 ; r := r + 3 }").parse();
+        assertEquals(-3, new Interpreter(program).getValuation().get("r").intValue());
+        program = new Parser("a := -5 ; r := 0 ; while (a) { a := a + 1 ; r := r - 3 }").parse();
+        assertEquals(-15, new Interpreter(program).getValuation().get("r").intValue());
+    }
+
+    @Test(expected = InterpreterException.class)
+    public void testLinearLoopUnknownIdentifier() {
+        new Interpreter(new Parser("a := 5 ; r := 0 ; while (a) { r := r + b ; a := a - 1 }").parse());
+    }
+
+    @Test
+    public void testValuationContainsAssignedVariablesOnly() {
+        Program program = new Conditional(new Int(0),
+                new Assignment(new Identifier("x"), new Int(1)),
+                new Assignment(new Identifier("y"), new Int(2)));
+        Map<String, Integer> valuation = new Interpreter(program).getValuation();
+        assertEquals(1, valuation.size());
+        assertEquals(2, valuation.get("y").intValue());
+    }
+
+    @Test(expected = InterpreterException.class)
+    public void testUnknownIdentifier() {
+        new Interpreter(new Assignment(new Identifier("x"), new Identifier("y")));
+    }
+
+    @Test
+    public void testUnknownIdentifierPosition() {
+        Parser parser = new Parser("a := 1 ;\nb := a + 2 - a + x", true);
+        Program program = parser.parse();
+        try {
+            new Interpreter(program);
+            fail();
+        } catch (InterpreterException e) {
+            assertEquals("line 2, column 18", parser.getSourceMap().location(e.node));
+        }
+    }
+
+    @Test
+    public void testStepLimit() {
+        Program program = new Parser("a := 1 ; n := 0 ; while (a) { n := n + 1 }").parse();
+        try {
+            new Interpreter(program, new HashMap<String, Integer>(), Limits.steps(1000));
+            fail();
+        } catch (LimitExceededException e) {
+            assertEquals(1000, e.steps);
+            assertEquals(1000, e.valuation.get("n").intValue());
+        }
+    }
+
+    @Test
+    public void testStepLimitInLinearLoop() {
+        Program program = new Parser("a := 10 ; r := 0 ; while (a) { r := r + 1 ; a := a - 1 }").parse();
+        try {
+            new Interpreter(program, new HashMap<String, Integer>(), Limits.steps(5));
+            fail();
+        } catch (LimitExceededException e) {
+            assertEquals(5, e.steps);
+            assertEquals(5, e.valuation.get("r").intValue());
+            assertEquals(5, e.valuation.get("a").intValue());
+        }
+        Map<String, Integer> valuation = new Interpreter(program, new HashMap<String, Integer>(), Limits.steps(10))
+                .getValuation();
+        assertEquals(10, valuation.get("r").intValue());
+    }
+
+    @Test(expected = LimitExceededException.class)
+    public void testTimeout() {
+        Program program = new Parser("a := 1 ; n := 0 ; while (a) { n := n + 1 ; if (n) then { b := 1 } else { b := 2 } }").parse();
+        new Interpreter(program, new HashMap<String, Integer>(), Limits.timeout(50));
+    }
+
+    @Test
+    public void testSuperinstructions() {
+        Program program = new Parser("n := 40 ; i := 0 ; a := 0 ; b := 1 ; "
+                + "while (n) { t := a + b ; a := b ; b := t ; i := 2 + i ; n := n - 1 }").parse();
+        Map<String, Integer> valuation = new Interpreter(program).getValuation();
+        assertEquals(102334155, valuation.get("a").intValue());
+        assertEquals(80, valuation.get("i").intValue());
+        assertEquals(0, valuation.get("n").intValue());
+    }
+
+    @Test
+    public void testSuperinstructionsUnknownIdentifierPosition() {
+        String[] codes = {"a := 1 ;\nc := a + b", "a := 1 ;\nx := x + 1", "a := 1 ;\nwhile (n) { n := n - a ; a := n }"};
+        String[] locations = {"line 2, column 10", "line 2, column 6", "line 2, column 8"};
+        for (int i = 0; i < codes.length; i++) {
+            Parser parser = new Parser(codes[i], true);
+            try {
+                new Interpreter(parser.parse());
+                fail();
+            } catch (InterpreterException e) {
+                assertEquals(locations[i], parser.getSourceMap().location(e.node));
+            }
+        }
+    }
+
+    @Test
+    public void testHugeTimeout() {
+        Program program = new Parser("a := 5000 ; n := 0 ; while (a) { a := a - 1 ; if (n) then { n := 0 } else { n := 1 } }").parse();
+        Map<String, Integer> valuation = new Interpreter(program, new HashMap<String, Integer>(),
+                Limits.timeout(Long.MAX_VALUE / 1000)).getValuation();
+        assertEquals(0, valuation.get("a").intValue());
+    }
 }
@@ -0,0 +1,66 @@
+package interpreter;
+
+import expression.*;
+import org.junit.Test;
+import parser.Parser;
+import program.Assignment;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class NumericEvaluatorTest {
+    final Map<String, Number> valuation = new HashMap<String, Number>();
+
+    private Number eval(NumericMode mode, String code) {
+        Assignment assignment = (Assignment) new Parser("x := " + code).parse();
+        return NumericEvaluator.create(mode, valuation).eval(assignment.expression);
+    }
+
+    @Test
+    public void testInt32() {
+        valuation.put("x", 7);
+        assertEquals(Integer.valueOf(13), eval(NumericMode.INT32, "x - 2 + 8"));
+        assertEquals(Integer.valueOf(Integer.MIN_VALUE), eval(NumericMode.INT32, "2147483647 + 1"));
+        assertEquals(Integer.valueOf(1), eval(NumericMode.INT32, "4294967297"));
+    }
+
+    @Test
+    public void testInt64() {
+        valuation.put("x", Integer.MAX_VALUE);
+        assertEquals(Long.valueOf(4294967294L), eval(NumericMode.INT64, "x + x"));
+        assertEquals(Long.valueOf(Long.MIN_VALUE), eval(NumericMode.INT64, "9223372036854775807 + 1"));
+    }
+
+    @Test
+    public void testChecked() {
+        valuation.put("x", Integer.MAX_VALUE);
+        assertEquals(Integer.valueOf(Integer.MAX_VALUE - 1), eval(NumericMode.CHECKED, "x - 1"));
+        assertEquals(Integer.valueOf(Integer.MIN_VALUE), eval(NumericMode.CHECKED, "-2147483648"));
+        String[] overflows = {"x + 1", "0 - x - 2", "-2147483648 - 1", "2147483648", "y"};
+        valuation.put("y", 1L << 40);
+        for (String code : overflows) {
+            try {
+                eval(NumericMode.CHECKED, code);
+                fail(code);
+            } catch (InterpreterException e) {
+                assertTrue(e.getMessage().startsWith("Integer overflow"));
+            }
+        }
+    }
+
+    @Test
+    public void testBigInteger() {
+        valuation.put("x", Long.MAX_VALUE);
+        valuation.put("y", new BigInteger("100000000000000000000"));
+        assertEquals(new BigInteger("9223372036854775808"), eval(NumericMode.BIG_INTEGER, "x + 1"));
+        assertEquals(new BigInteger("-1"), eval(NumericMode.BIG_INTEGER, "99999999999999999999 - y"));
+    }
+
+    @Test(expected = InterpreterException.class)
+    public void testUnknownIdentifier() {
+        eval(NumericMode.INT64, "z");
+    }
+}
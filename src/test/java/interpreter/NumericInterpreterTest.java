@@ -0,0 +1,99 @@
+package interpreter;
+
+import org.junit.Test;
+import parser.Parser;
+import program.Program;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class NumericInterpreterTest {
+    final Program mult = new Parser("r := 0 ; while (a) { r := r + b ; a := a - 1 }").parse();
+
+    private Map<String, Number> run(NumericMode mode, Number a, Number b) {
+        Map<String, Number> valuation = new HashMap<String, Number>();
+        valuation.put("a", a);
+        valuation.put("b", b);
+        return new NumericInterpreter(mult, valuation, mode).getValuation();
+    }
+
+    @Test
+    public void testInt32MatchesInterpreter() {
+        Map<String, Integer> valuation = new HashMap<String, Integer>();
+        valuation.put("a", 3);
+        valuation.put("b", 1000000000);
+        Map<String, Integer> expected = new Interpreter(mult, valuation).getValuation();
+        assertEquals(expected.get("r"), run(NumericMode.INT32, 3, 1000000000).get("r"));
+    }
+
+    @Test
+    public void testInt64() {
+        assertEquals(3000000000L, run(NumericMode.INT64, 3, 1000000000).get("r"));
+    }
+
+    @Test(expected = InterpreterException.class)
+    public void testChecked() {
+        run(NumericMode.CHECKED, 3, 1000000000);
+    }
+
+    @Test
+    public void testBigInteger() {
+        Map<String, Number> valuation = run(NumericMode.BIG_INTEGER, 4, Long.MAX_VALUE);
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(2), valuation.get("r"));
+        assertEquals(BigInteger.ZERO, valuation.get("a"));
+    }
+
+    @Test
+    public void testLargeLiteral() {
+        Program program = new Parser("x := 100000000000000000000 ; if (x - 100000000000000000000) then { y := 1 } else { y := 2 }").parse();
+        Map<String, Number> valuation = new NumericInterpreter(program, NumericMode.BIG_INTEGER).getValuation();
+        assertEquals(new BigInteger("100000000000000000000"), valuation.get("x"));
+        assertEquals(BigInteger.valueOf(2), valuation.get("y"));
+    }
+
+    private LimitExceededException runUntilLimit(NumericMode mode) {
+        Program program = new Parser("a := 1 ; n := 0 ; while (a) { n := n + 1 }").parse();
+        try {
+            new NumericInterpreter(program, new HashMap<String, Number>(), mode, Limits.steps(1000));
+            fail();
+            return null;
+        } catch (LimitExceededException e) {
+            assertEquals(1000, e.steps);
+            return e;
+        }
+    }
+
+    @Test
+    public void testStepLimitInt32() {
+        assertEquals(1000, runUntilLimit(NumericMode.INT32).valuation.get("n"));
+    }
+
+    @Test
+    public void testStepLimitInt64() {
+        assertEquals(1000L, runUntilLimit(NumericMode.INT64).valuation.get("n"));
+    }
+
+    @Test
+    public void testStepLimitChecked() {
+        assertEquals(1000, runUntilLimit(NumericMode.CHECKED).valuation.get("n"));
+    }
+
+    @Test
+    public void testStepLimitBigInteger() {
+        assertEquals(BigInteger.valueOf(1000), runUntilLimit(NumericMode.BIG_INTEGER).valuation.get("n"));
+    }
+
+    @Test
+    public void testUnusedVariablesAreKept() {
+        Map<String, Number> valuation = new HashMap<String, Number>();
+        valuation.put("a", 2);
+        valuation.put("b", 3);
+        valuation.put("c", 7L);
+        for (NumericMode mode : NumericMode.values()) {
+            assertEquals(7, new NumericInterpreter(mult, valuation, mode).getValuation().get("c").intValue());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package interpreter;
+
+import org.junit.Test;
+import parser.Parser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class PreparedProgramTest {
+    private final PreparedProgram mult = new PreparedProgram(
+            new Parser("r := 0 ; while (a) { r := r + b ; a := a - 1 }").parse());
+
+    private static Map<String, Integer> valuation(int a, int b) {
+        Map<String, Integer> valuation = new HashMap<String, Integer>();
+        valuation.put("a", a);
+        valuation.put("b", b);
+        return valuation;
+    }
+
+    @Test
+    public void testRun() {
+        Map<String, Integer> inputs = valuation(6, 7);
+        inputs.put("unused", 3);
+        Map<String, Integer> result = mult.run(inputs);
+        assertEquals(42, result.get("r").intValue());
+        assertEquals(0, result.get("a").intValue());
+        assertEquals(3, result.get("unused").intValue());
+        assertEquals(6, inputs.get("a").intValue());
+    }
+
+    @Test(expected = InterpreterException.class)
+    public void testMissingInput() {
+        mult.run(new HashMap<String, Integer>());
+    }
+
+    @Test
+    public void testRunAll() {
+        List<Map<String, Integer>> inputs = new ArrayList<Map<String, Integer>>();
+        for (int i = 0; i < 1000; i++) {
+            inputs.add(valuation(i, i + 1));
+        }
+        List<Map<String, Integer>> sequential = mult.runAll(inputs);
+        List<Map<String, Integer>> parallel = mult.runAll(inputs, 3);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i * (i + 1), sequential.get(i).get("r").intValue());
+            assertEquals(sequential.get(i), parallel.get(i));
+        }
+    }
+
+    @Test
+    public void testFrameIsReset() {
+        PreparedProgram program = new PreparedProgram(new Parser("if (a) then { x := 1 } else { y := 1 }").parse());
+        List<Map<String, Integer>> inputs = new ArrayList<Map<String, Integer>>();
+        inputs.add(valuation(1, 0));
+        inputs.add(valuation(0, 0));
+        List<Map<String, Integer>> results = program.runAll(inputs);
+        assertEquals(null, results.get(1).get("x"));
+        assertEquals(1, results.get(1).get("y").intValue());
+    }
+}
@@ -0,0 +1,89 @@
+package interpreter;
+
+import org.junit.Test;
+import parser.Parser;
+import program.Block;
+import program.Conditional;
+import program.Loop;
+import program.Program;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ProfilerTest {
+    private static Map<String, Integer> valuation(int a) {
+        Map<String, Integer> valuation = new HashMap<String, Integer>();
+        valuation.put("a", a);
+        return valuation;
+    }
+
+    @Test
+    public void testCounts() {
+        Block program = (Block) new Parser(
+                "r := 0 ; while (a) { if (r) then { r := r - 1 } else { r := r + 3 } ; a := a - 1 }").parse();
+        Profiler profiler = new Profiler(program);
+        assertEquals(2, profiler.run(valuation(6)).get("r").intValue());
+        Loop loop = (Loop) program.statements[1];
+        Conditional conditional = (Conditional) ((Block) loop.program).statements[0];
+        assertEquals(1, profiler.count(program.statements[0]));
+        assertEquals(1, profiler.count(loop));
+        assertEquals(6, profiler.iterations(loop));
+        assertEquals(6, profiler.count(conditional));
+        assertEquals(4, profiler.thenCount(conditional));
+        assertEquals(2, profiler.elseCount(conditional));
+        assertEquals(4, profiler.count(conditional.thenCase));
+        assertEquals(6, profiler.count(((Block) loop.program).statements[1]));
+        assertEquals(0, profiler.count(program));
+        assertEquals(0, profiler.nanos(loop));
+    }
+
+    @Test
+    public void testRunsAddUp() {
+        Block program = (Block) new Parser("r := 0 ; while (a) { r := r + 1 ; a := a - 1 }").parse();
+        Profiler profiler = new Profiler(program);
+        profiler.run(valuation(3));
+        profiler.run(valuation(4));
+        assertEquals(2, profiler.count(program.statements[0]));
+        assertEquals(7, profiler.iterations((Loop) program.statements[1]));
+    }
+
+    @Test
+    public void testEqualStatementsCountedSeparately() {
+        Block program = (Block) new Parser("a := a - 1 ; a := a - 1 ; a := a - 1").parse();
+        Profiler profiler = new Profiler(program);
+        profiler.run(valuation(3));
+        for (Program statement : program.statements) {
+            assertEquals(1, profiler.count(statement));
+        }
+    }
+
+    @Test
+    public void testCountsKeptOnError() {
+        Loop program = (Loop) new Parser("while (a) { a := a - 1 ; if (a) then { r := 0 } else { r := x } }").parse();
+        Profiler profiler = new Profiler(program);
+        try {
+            profiler.run(valuation(5));
+            fail();
+        } catch (InterpreterException e) {
+            Conditional conditional = (Conditional) ((Block) program.program).statements[1];
+            assertEquals(1, profiler.count(program));
+            assertEquals(5, profiler.iterations(program));
+            assertEquals(4, profiler.thenCount(conditional));
+            assertEquals(1, profiler.elseCount(conditional));
+        }
+    }
+
+    @Test
+    public void testTiming() {
+        Block program = (Block) new Parser("r := 0 ; while (a) { r := r + 1 ; a := a - 1 }").parse();
+        Profiler profiler = new Profiler(program, true);
+        profiler.run(valuation(1000));
+        assertTrue(profiler.isTiming());
+        assertTrue(profiler.nanos(program.statements[1]) > 0);
+        assertTrue(profiler.nanos(program.statements[1]) >= profiler.nanos(program.statements[0]));
+    }
+}
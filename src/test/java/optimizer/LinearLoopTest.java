@@ -0,0 +1,48 @@
+package optimizer;
+
+import expression.Identifier;
+import org.junit.Test;
+import parser.Parser;
+import printer.ExpressionPrinter;
+import program.Loop;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class LinearLoopTest {
+    private LinearLoop match(String code) {
+        return LinearLoop.match((Loop) new Parser(code).parse());
+    }
+
+    @Test
+    public void testMult() {
+        LinearLoop loop = match("while (a) { r := r + b ; a := a - 1 }");
+        assertEquals(new Identifier("a"), loop.counter);
+        assertEquals(-1, loop.step);
+        assertEquals(1, loop.variables.length);
+        assertEquals(new Identifier("r"), loop.variables[0]);
+        assertEquals("b", new ExpressionPrinter().print(loop.increments[0]));
+    }
+
+    @Test
+    public void testIncrementingCounter() {
+        LinearLoop loop = match("while (a) { a := 1 + a ; r := b - (c - r) ; s := s - 3 }");
+        assertEquals(1, loop.step);
+        assertEquals(2, loop.variables.length);
+        assertEquals("b - c", new ExpressionPrinter().print(loop.increments[0]));
+        assertEquals("-3", new ExpressionPrinter().print(loop.increments[1]));
+    }
+
+    @Test
+    public void testNoMatch() {
+        assertNull(match("while (a - 1) { a := a - 1 }"));
+        assertNull(match("while (a) { a := a - 2 }"));
+        assertNull(match("while (a) { r := r + 1 }"));
+        assertNull(match("while (a) { r := r + a ; a := a - 1 }"));
+        assertNull(match("while (a) { r := r + s ; s := s + 1 ; a := a - 1 }"));
+        assertNull(match("while (a) { r := r + 1 ; r := r + 1 ; a := a - 1 }"));
+        assertNull(match("while (a) { r := r + r ; a := a - 1 }"));
+        assertNull(match("while (a) { r := b ; a := a - 1 }"));
+        assertNull(match("while (a) { if (b) then { r := r + 1 } else { r := r } ; a := a - 1 }"));
+    }
+}
@@ -0,0 +1,95 @@
+package optimizer;
+
+import interpreter.InterpreterException;
+import org.junit.Test;
+import parser.Parser;
+import printer.ProgramPrinter;
+import program.Program;
+import program.RandomPrograms;
+import vm.Bytecode;
+
+import static org.junit.Assert.assertEquals;
+
+public class OptimizerTest {
+    private String optimize(String code) {
+        return new ProgramPrinter().print(new Optimizer().optimize(new Parser(code).parse()));
+    }
+
+    @Test
+    public void testFoldConstants() {
+        assertEquals("x := 6", optimize("x := 1 + (2 + 3)"));
+        assertEquals("x := -2147483648", optimize("x := 2147483647 + 1"));
+    }
+
+    @Test
+    public void testIdentities() {
+        assertEquals("y := x", optimize("y := x - 0"));
+        assertEquals("y := x", optimize("y := 0 + x"));
+        assertEquals("y := x", optimize("y := (x + 1) - 1"));
+    }
+
+    @Test
+    public void testReassociate() {
+        assertEquals("y := x + z + 4", optimize("y := 1 + x + 2 - (0 - z - 1)"));
+        assertEquals("y := 3 - x", optimize("y := 1 - (x - 2)"));
+        assertEquals("y := x + x - 1", optimize("y := x - 1 + x"));
+    }
+
+    @Test
+    public void testKeepUnassignedCheck() {
+        assertEquals("y := x - x", optimize("y := x + 1 - x - 1"));
+    }
+
+    @Test(expected = InterpreterException.class)
+    public void testUnknownIdentifier() {
+        Bytecode.lower(new Optimizer().optimize(new Parser("y := x - x").parse())).run();
+    }
+
+    @Test
+    public void testConstantCondition() {
+        assertEquals("a := 1 ; b := 2", optimize("a := 1 ; if (3 - 3) then { b := 1 } else { b := 2 }"));
+        assertEquals("while (a) { a := a - 1 }", optimize("if (1) then { while (a - 0) { a := a - 1 } } else { b := 2 }"));
+    }
+
+    @Test
+    public void testDeadStores() {
+        assertEquals("x := 2", optimize("x := 1 ; x := 2"));
+        assertEquals("y := 1 ; x := 2", optimize("y := 1 ; x := y ; x := 2"));
+        assertEquals("x := 1 ; y := x ; x := 2", optimize("x := 1 ; y := x ; x := 2"));
+        assertEquals("while (n) { x := 2 ; n := n - 1 }", optimize("while (n) { x := 1 ; x := 2 ; n := n - 1 }"));
+        assertEquals("x := 3", optimize("if (1 - 1) then { x := 1 } else { x := 2 } ; x := 3"));
+    }
+
+    @Test
+    public void testKeepStores() {
+        assertEquals("x := y ; x := 2", optimize("x := y ; x := 2"));
+        assertEquals("x := 1 ; if (c) then { x := 2 } else { y := 1 }",
+                optimize("x := 1 ; if (c) then { x := 2 } else { y := 1 }"));
+        assertEquals("x := 0 ; while (n) { x := x + 1 ; n := n - 1 }",
+                optimize("x := 0 ; while (n) { x := x + 1 ; n := n - 1 }"));
+        assertEquals("while (n) { x := 1 ; n := x ; x := 2 }", optimize("while (n) { x := 1 ; n := x ; x := 2 }"));
+    }
+
+    @Test
+    public void testKeepOneStatement() {
+        assertEquals("if (c) then { x := 1 } else { x := 2 } ; x := 3 ; y := 4",
+                optimize("if (c) then { x := 1 } else { x := 2 ; y := 3 } ; x := 3 ; y := 4"));
+    }
+
+    @Test
+    public void testRandomPrograms() {
+        RandomPrograms random = new RandomPrograms(11);
+        for (int i = 0; i < 500; i++) {
+            Program program = random.program();
+            assertEquals(run(program), run(new Optimizer().optimize(program)));
+        }
+    }
+
+    private String run(Program program) {
+        try {
+            return Bytecode.lower(program).run().toString();
+        } catch (InterpreterException e) {
+            return e.getMessage();
+        }
+    }
+}
@@ -1,26 +1,31 @@
 package parser;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 import org.junit.Test;
 import expression.*;
+import interpreter.Interpreter;
+import printer.ProgramPrinter;
 import program.*;
 
+import java.math.BigInteger;
+
 public class ParserTest {
     final String loopCode = "while (a) { r := r + b ; a := a - 1 }";
-    final Loop loop = new Loop(new Identifier("a"), new Composition(new Assignment(new Identifier("r"), new Addition(new Identifier("r"), new Identifier("b"))), new Assignment(new Identifier("a"), new Subtraction(new Identifier("a"), new Int(1)))));
+    final Loop loop = new Loop(new Identifier("a"), new Block(new Assignment(new Identifier("r"), new Addition(new Identifier("r"), new Identifier("b"))), new Assignment(new Identifier("a"), new Subtraction(new Identifier("a"), new Int(1)))));
 
     final String assignmentCode = "a := 2";
     final Assignment assignment = new Assignment(new Identifier("a"), new Int(2));
 
     final String compositionCode = assignmentCode + " ; b := bar";
-    final Composition composition = new Composition(assignment, new Assignment(new Identifier("b"), new Identifier("bar")));
+    final Block composition = new Block(assignment, new Assignment(new Identifier("b"), new Identifier("bar")));
 
     final String conditionalCode = "if (foo - bar) then { x := 5 } else { x := x }";
     final Conditional conditional = new Conditional(new Subtraction(new Identifier("foo"), new Identifier("bar")), new Assignment(new Identifier("x"), new Int(5)), new Assignment(new Identifier("x"), new Identifier("x")));
 
     final String programCode = compositionCode + " ; " + loopCode + " ; " + conditionalCode;
-    final Program program = new Composition(new Composition(composition, loop), conditional);
+    final Program program = new Block(assignment, new Assignment(new Identifier("b"), new Identifier("bar")), loop, conditional);
 
     @Test
     public void testParse() {
@@ -108,4 +113,62 @@ public class ParserTest {
         Parser parser = new Parser("egjfd");
         assertEquals(new Identifier("egjfd"), parser.identifier());
     }
+
+    @Test
+    public void testNegativeNumber() {
+        Parser parser = new Parser("a - -2147483648 -1");
+        assertEquals(new Subtraction(new Subtraction(new Identifier("a"), new Int(-2147483648)), new Int(1)),
+                parser.expression());
+    }
+
+    @Test
+    public void testKeywordAsIdentifier() {
+        Parser parser = new Parser("while := if");
+        assertEquals(new Assignment(new Identifier("while"), new Identifier("if")), parser.parse());
+    }
+
+    @Test
+    public void testInvalidCharacter() {
+        Parser parser = new Parser("a := 1 ; b := 2 * 3");
+        try {
+            parser.parse();
+            fail();
+        } catch (SyntaxException e) {
+            assertEquals(16, e.position);
+        }
+    }
+
+    @Test
+    public void testLargeNumber() {
+        assertEquals(new Assignment(new Identifier("a"), new Int(new BigInteger("2147483648"))),
+                new Parser("a := 2147483648").parse());
+        assertEquals(new Int(new BigInteger("-123456789012345678901234567890")),
+                new Parser("-123456789012345678901234567890").integer());
+        assertEquals(new Int(42), new Parser("0000000042").integer());
+    }
+
+    @Test
+    public void testErrorInConditional() {
+        Parser parser = new Parser("if (a) then { b := 1 } esle { b := 2 }");
+        try {
+            parser.parse();
+            fail();
+        } catch (SyntaxException e) {
+            assertEquals("else", e.expected);
+            assertEquals(23, e.position);
+        }
+    }
+
+    @Test
+    public void testLargeProgram() {
+        StringBuilder code = new StringBuilder("x := 0");
+        for (int i = 0; i < 100000; i++) {
+            code.append(" ; x := x + 1");
+        }
+        Program program = new Parser(code.toString()).parse();
+        assertEquals(100001, ((Block) program).statements.length);
+        assertEquals(100000, (int) new Interpreter(program).getValuation().get("x"));
+        assertEquals(code.toString(), new ProgramPrinter().print(program));
+        assertEquals(program, new Parser(code.toString()).parse());
+    }
 }
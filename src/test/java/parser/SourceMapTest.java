@@ -0,0 +1,70 @@
+package parser;
+
+import org.junit.Test;
+import program.Assignment;
+import program.Block;
+import program.Conditional;
+import program.Loop;
+
+import static org.junit.Assert.*;
+
+public class SourceMapTest {
+    final String code = "x := 1 ;\nwhile (x) {\n  x := x - 1\n} ;\nif (y) then { x := 1 } else { x := 1 }";
+
+    @Test
+    public void testPositions() {
+        Parser parser = new Parser(code, true);
+        Block program = (Block) parser.parse();
+        SourceMap positions = parser.getSourceMap();
+        Loop loop = (Loop) program.statements[1];
+        int id = positions.id(loop);
+        assertEquals(9, positions.start(id));
+        assertEquals(35, positions.end(id));
+        assertEquals("while (x) {\n  x := x - 1\n}", code.substring((int) positions.start(id), (int) positions.end(id)));
+        Assignment assignment = (Assignment) loop.program;
+        id = positions.id(assignment.expression);
+        assertEquals("x - 1", code.substring((int) positions.start(id), (int) positions.end(id)));
+        assertEquals("line 3, column 3", positions.location(assignment));
+        id = positions.id(program);
+        assertEquals(0, positions.start(id));
+        assertEquals(code.length(), positions.end(id));
+    }
+
+    @Test
+    public void testEqualNodes() {
+        Parser parser = new Parser(code, true);
+        Block program = (Block) parser.parse();
+        Conditional conditional = (Conditional) program.statements[2];
+        assertEquals(conditional.thenCase, conditional.elseCase);
+        assertEquals("line 5, column 15", parser.getSourceMap().location(conditional.thenCase));
+        assertEquals("line 5, column 31", parser.getSourceMap().location(conditional.elseCase));
+    }
+
+    @Test
+    public void testLinesAndColumns() {
+        Parser parser = new Parser(code, true);
+        parser.parse();
+        SourceMap positions = parser.getSourceMap();
+        assertEquals(1, positions.line(0));
+        assertEquals(1, positions.line(8));
+        assertEquals(2, positions.line(9));
+        assertEquals(1, positions.column(9));
+        assertEquals(5, positions.line(code.length()));
+        assertEquals(7, positions.column(15));
+    }
+
+    @Test
+    public void testUnknownNode() {
+        Parser parser = new Parser(code, true);
+        parser.parse();
+        assertEquals(-1, parser.getSourceMap().id(new Parser(code).parse()));
+        assertNull(parser.getSourceMap().location("x"));
+    }
+
+    @Test
+    public void testNotRecorded() {
+        Parser parser = new Parser(code);
+        parser.parse();
+        assertNull(parser.getSourceMap());
+    }
+}
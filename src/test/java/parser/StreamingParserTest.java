@@ -0,0 +1,155 @@
+package parser;
+
+import org.junit.Test;
+import printer.ProgramPrinter;
+import program.Block;
+import program.Program;
+import program.RandomPrograms;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class StreamingParserTest {
+    private static List<Program> statements(StreamingParser parser) throws IOException {
+        List<Program> statements = new ArrayList<Program>();
+        Program statement;
+        while ((statement = parser.next()) != null) {
+            statements.add(statement);
+        }
+        return statements;
+    }
+
+    private static void assertSameStatements(String code) throws IOException {
+        Program program = new Parser(code).parse();
+        List<Program> statements = statements(new StreamingParser(new StringReader(code)));
+        if (statements.size() == 1) {
+            assertEquals(program, statements.get(0));
+        } else {
+            assertEquals(program, new Block(statements.toArray(new Program[statements.size()])));
+        }
+    }
+
+    private static String error(StreamingParser parser) throws IOException {
+        try {
+            statements(parser);
+        } catch (SyntaxException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    @Test
+    public void testStatements() throws IOException {
+        assertSameStatements("a := 1 ; if (a) then { b := 1 ; c := 2 } else { b := 2 } ; while (a) { a := a - 1 }");
+        assertSameStatements("a := 1");
+        assertSameStatements("while (a) { b := 1 ; while (b) { b := b - 1 } }");
+    }
+
+    @Test
+    public void testChannel() throws IOException {
+        String code = "x := 1 ;\nwhile (x) {\n  x := x - 1\n}";
+        StreamingParser parser = new StreamingParser(Channels.newChannel(new ByteArrayInputStream(code.getBytes("UTF-8"))));
+        assertEquals(((Block) new Parser(code).parse()).statements.length, statements(parser).size());
+    }
+
+    @Test
+    public void testLongStatements() throws IOException {
+        StringBuilder code = new StringBuilder("a := 0");
+        for (int i = 0; i < 3; i++) {
+            code.append(" ;\nwhile (a) {\n");
+            for (int j = 0; j < 2000; j++) {
+                code.append("  variable := variable + ").append(j).append(" ;\n");
+            }
+            code.append("  a := a - 1\n}");
+        }
+        assertSameStatements(code.toString());
+    }
+
+    @Test
+    public void testRandomPrograms() throws IOException {
+        RandomPrograms generator = new RandomPrograms(3);
+        ProgramPrinter printer = new ProgramPrinter();
+        for (int i = 0; i < 200; i++) {
+            String code = printer.print(generator.program());
+            StringBuilder printed = new StringBuilder();
+            for (Program statement : statements(new StreamingParser(new StringReader(code)))) {
+                printed.append(printed.length() > 0 ? " ; " : "").append(printer.print(statement));
+            }
+            assertEquals(code, printed.toString());
+        }
+    }
+
+    @Test
+    public void testSyntaxErrors() throws IOException {
+        String[] codes = {"", "a := 1 ;", "a := 1 ;  ", "a := 1 ; b := ", "a := 1 ; b := 2 } ; c := 3",
+                "a := 1 ; if (a) then { b := 1 } ; c := 1", "a := 1 ; while (a) { a := a - 1", "a := 1 ; b := #"};
+        for (String code : codes) {
+            String expected = null;
+            try {
+                new Parser(code).parse();
+            } catch (SyntaxException e) {
+                expected = e.getMessage();
+            }
+            assertNotNull(expected);
+            assertEquals(expected, error(new StreamingParser(new StringReader(code))));
+        }
+    }
+
+    @Test
+    public void testStatementsBeforeError() throws IOException {
+        StreamingParser parser = new StreamingParser(new StringReader("a := 1 ; b := 2 ; c := "));
+        assertNotNull(parser.next());
+        assertNotNull(parser.next());
+        try {
+            parser.next();
+            fail();
+        } catch (SyntaxException e) {
+            assertEquals(23, e.position);
+        }
+    }
+
+    @Test
+    public void testPositions() throws IOException {
+        String code = "x := 1 ;\nwhile (x) {\n  x := x - 1\n} ;\ny := x + z";
+        StreamingParser parser = new StreamingParser(new StringReader(code), true);
+        parser.next();
+        Program loop = parser.next();
+        assertEquals("line 2, column 1", parser.getSourceMap().location(loop));
+        Program assignment = parser.next();
+        SourceMap positions = parser.getSourceMap();
+        assertEquals("line 5, column 1", positions.location(assignment));
+        int id = positions.id(assignment);
+        assertEquals("y := x + z", code.substring((int) positions.start(id), (int) positions.end(id)));
+        assertNull(parser.next());
+        assertNull(parser.next());
+    }
+
+    @Test
+    public void testPositionsBeyondIntRange() throws IOException {
+        long offset = Integer.MAX_VALUE - 16;
+        String code = "x := 1 ;\ny := x + z ; w := 2 ;\n  v := ";
+        StreamingParser parser = new StreamingParser(new StringReader(code), true, offset);
+        Program first = parser.next();
+        assertEquals("line 1, column " + (offset + 1), parser.getSourceMap().location(first));
+        Program second = parser.next();
+        assertEquals("line 2, column 1", parser.getSourceMap().location(second));
+        Program third = parser.next();
+        SourceMap positions = parser.getSourceMap();
+        assertEquals("line 2, column 14", positions.location(third));
+        int id = positions.id(third);
+        assertEquals(offset + code.indexOf("w := 2"), positions.start(id));
+        assertTrue(positions.start(id) > Integer.MAX_VALUE);
+        try {
+            parser.next();
+            fail();
+        } catch (SyntaxException e) {
+            assertEquals(offset + code.length(), e.position);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package printer;
 import expression.*;
 import org.junit.Test;
 
+import java.math.BigInteger;
+
 import static org.junit.Assert.*;
 
 public class ExpressionPrinterTest {
@@ -40,4 +42,20 @@ public class ExpressionPrinterTest {
         assertEquals(subtractionCode, printer.print(subtraction));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testVisitLargeInt() {
+        assertEquals("-98765432109876543210", printer.print(new Int(new BigInteger("-98765432109876543210"))));
+    }
+
+    @Test
+    public void testDeepExpression() {
+        Expression expression = new Identifier("x");
+        StringBuilder expected = new StringBuilder("x");
+        for (int i = 0; i < 100000; i++) {
+            expression = new Addition(expression, new Int(1));
+            expected.append(" + 1");
+        }
+        assertEquals(expected.toString(), printer.print(expression));
+    }
+
+}
@@ -0,0 +1,64 @@
+package printer;
+
+import interpreter.Profiler;
+import org.junit.Test;
+import parser.Parser;
+import program.Program;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class ProfilePrinterTest {
+    final Program program = new Parser(
+            "r := 0 ; while (a) { if (r) then { r := r - 1 } else { r := r + 3 } ; a := a - 1 } ; b := r").parse();
+
+    private Profiler profile(boolean timing) {
+        Profiler profiler = new Profiler(program, timing);
+        Map<String, Integer> valuation = new HashMap<String, Integer>();
+        valuation.put("a", 6);
+        profiler.run(valuation);
+        return profiler;
+    }
+
+    @Test
+    public void testPrint() {
+        String expected =
+                "         1  r := 0 ;\n" +
+                "         1  while (a) {\n" +
+                "         6      if (r) then {\n" +
+                "         4          r := r - 1\n" +
+                "         2      } else {\n" +
+                "         2          r := r + 3\n" +
+                "                } ;\n" +
+                "         6      a := a - 1\n" +
+                "            } ;\n" +
+                "         1  b := r\n";
+        assertEquals(expected, new ProfilePrinter(profile(false)).print(program));
+    }
+
+    @Test
+    public void testPrintedSourceParses() {
+        String annotated = new ProfilePrinter(profile(true)).print(program);
+        StringBuilder source = new StringBuilder();
+        for (String line : annotated.split("\n")) {
+            source.append(line.substring(26)).append('\n');
+        }
+        assertEquals(program, new Parser(source.toString()).parse());
+    }
+
+    @Test
+    public void testPrintJson() {
+        String expected = "{\"statements\": [\n" +
+                "  {\"kind\": \"assignment\", \"source\": \"r := 0\", \"count\": 1},\n" +
+                "  {\"kind\": \"loop\", \"source\": \"while (a)\", \"count\": 1, \"iterations\": 6},\n" +
+                "  {\"kind\": \"conditional\", \"source\": \"if (r)\", \"count\": 6, \"then\": 4, \"else\": 2},\n" +
+                "  {\"kind\": \"assignment\", \"source\": \"r := r - 1\", \"count\": 4},\n" +
+                "  {\"kind\": \"assignment\", \"source\": \"r := r + 3\", \"count\": 2},\n" +
+                "  {\"kind\": \"assignment\", \"source\": \"a := a - 1\", \"count\": 6},\n" +
+                "  {\"kind\": \"assignment\", \"source\": \"b := r\", \"count\": 1}\n" +
+                "]}";
+        assertEquals(expected, new ProfilePrinter(profile(false)).printJson(program));
+    }
+}
@@ -7,6 +7,9 @@ import expression.Subtraction;
 import org.junit.Test;
 import program.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import static org.junit.Assert.*;
 
 public class ProgramPrinterTest {
@@ -37,6 +40,11 @@ public class ProgramPrinterTest {
         assertEquals(compositionCode, printer.print(composition));
     }
 
+    @Test
+    public void testVisitBlock() {
+        assertEquals(programCode, printer.print(new Block(assignment, composition.second, loop, conditional)));
+    }
+
     @Test
     public void testVisitConditional() {
         assertEquals(conditionalCode, printer.print(conditional));
@@ -52,4 +60,24 @@ public class ProgramPrinterTest {
         assertEquals(programCode, printer.print(program));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testPrintToAppendable() throws IOException {
+        StringWriter out = new StringWriter();
+        printer.print(program, out);
+        assertEquals(programCode, out.toString());
+    }
+
+    @Test
+    public void testDeepProgram() {
+        Program deep = assignment;
+        StringBuilder loops = new StringBuilder();
+        StringBuilder ends = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            deep = new Loop(new Identifier("a"), deep);
+            loops.append("while (a) { ");
+            ends.append(" }");
+        }
+        assertEquals(loops + assignmentCode + ends, printer.print(deep));
+    }
+
+}
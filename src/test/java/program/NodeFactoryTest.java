@@ -0,0 +1,67 @@
+package program;
+
+import expression.Addition;
+import expression.Expression;
+import expression.Identifier;
+import expression.Subtraction;
+import interpreter.Interpreter;
+import org.junit.Test;
+import parser.Parser;
+import printer.ProgramPrinter;
+
+import static org.junit.Assert.*;
+
+public class NodeFactoryTest {
+    @Test
+    public void testSharedNodes() {
+        NodeFactory factory = new NodeFactory();
+        Expression first = factory.addition(factory.identifier("x"), factory.integer(1));
+        Expression second = factory.addition(factory.identifier("x"), factory.integer(1));
+        assertSame(first, second);
+        assertNotSame(first, factory.subtraction(factory.identifier("x"), factory.integer(1)));
+        assertNotSame(factory.integer(1), factory.integer(2));
+        assertSame(factory.loop(first, factory.assignment(factory.identifier("x"), second)),
+                factory.loop(second, factory.assignment(factory.identifier("x"), first)));
+        assertEquals(7, factory.size());
+    }
+
+    @Test
+    public void testDistinctHashCodes() {
+        Identifier x = new Identifier("x");
+        Assignment assignment = new Assignment(x, x);
+        assertTrue(new Addition(x, x).hashCode() != new Subtraction(x, x).hashCode());
+        assertTrue(new Assignment(x, x).hashCode() != new Addition(x, x).hashCode());
+        assertTrue(new Composition(assignment, assignment).hashCode() != new Block(assignment, assignment).hashCode());
+    }
+
+    @Test
+    public void testParser() {
+        String code = "a := 5 ; b := a + 1 ; while (a) { a := a - 1 ; b := a + 1 } ; "
+                + "if (b) then { b := a + 1 } else { b := a + 1 }";
+        Block program = (Block) new Parser(code, new NodeFactory()).parse();
+        assertEquals(new Parser(code).parse(), program);
+        assertEquals(code, new ProgramPrinter().print(program));
+        Conditional conditional = (Conditional) program.statements[3];
+        assertSame(program.statements[1], conditional.thenCase);
+        assertSame(conditional.thenCase, conditional.elseCase);
+        Block body = (Block) ((Loop) program.statements[2]).program;
+        assertSame(program.statements[1], body.statements[1]);
+        assertSame(((Addition) ((Assignment) body.statements[1]).expression).leftHandSide,
+                ((Assignment) body.statements[0]).identifier);
+        assertEquals(new Interpreter(new Parser(code).parse()).getValuation(), new Interpreter(program).getValuation());
+    }
+
+    @Test
+    public void testManyNodes() {
+        NodeFactory factory = new NodeFactory();
+        Identifier x = factory.identifier("x");
+        for (int i = 0; i < 100000; i++) {
+            factory.addition(x, factory.integer(i));
+        }
+        assertEquals(200001, factory.size());
+        for (int i = 0; i < 100000; i++) {
+            assertSame(factory.addition(x, factory.integer(i)), factory.addition(factory.identifier("x"), factory.integer(i)));
+        }
+        assertEquals(200001, factory.size());
+    }
+}
@@ -0,0 +1,65 @@
+package program;
+
+import expression.*;
+
+import java.util.Random;
+
+/**
+ * Generates random terminating programs over the variables a to e. Every loop counts a fresh counter variable down to
+ * zero, so all loops terminate. Expressions may read variables before they are assigned.
+ */
+public class RandomPrograms {
+    private static final String[] VARIABLES = {"a", "b", "c", "d", "e"};
+
+    private final Random random;
+    private int counters;
+
+    public RandomPrograms(long seed) {
+        random = new Random(seed);
+    }
+
+    public Program program() {
+        counters = 0;
+        return sequence(0);
+    }
+
+    private Program sequence(int depth) {
+        Program program = statement(depth);
+        int length = random.nextInt(4);
+        for (int i = 0; i < length; i++) {
+            program = new Composition(program, statement(depth));
+        }
+        return program;
+    }
+
+    private Program statement(int depth) {
+        int kind = depth < 3 ? random.nextInt(10) : 0;
+        if (kind < 6) {
+            return new Assignment(variable(), expression(0));
+        } else if (kind < 8) {
+            return new Conditional(expression(0), sequence(depth + 1), sequence(depth + 1));
+        } else {
+            Identifier counter = new Identifier("n" + Character.toString((char) ('a' + counters++)));
+            Program body = new Composition(sequence(depth + 1),
+                    new Assignment(counter, new Subtraction(counter, new Int(1))));
+            return new Composition(new Assignment(counter, new Int(random.nextInt(5))), new Loop(counter, body));
+        }
+    }
+
+    private Identifier variable() {
+        return new Identifier(VARIABLES[random.nextInt(VARIABLES.length)]);
+    }
+
+    private Expression expression(int depth) {
+        int kind = depth < 3 ? random.nextInt(6) : random.nextInt(3);
+        if (kind == 0) {
+            return new Int(random.nextBoolean() ? random.nextInt(10) - 5 : random.nextInt());
+        } else if (kind < 3) {
+            return variable();
+        } else if (kind == 3) {
+            return new Subtraction(expression(depth + 1), expression(depth + 1));
+        } else {
+            return new Addition(expression(depth + 1), expression(depth + 1));
+        }
+    }
+}
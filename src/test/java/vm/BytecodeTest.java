@@ -0,0 +1,90 @@
+package vm;
+
+import expression.Identifier;
+import expression.Int;
+import interpreter.Interpreter;
+import interpreter.InterpreterException;
+import interpreter.LimitExceededException;
+import interpreter.Limits;
+import org.junit.Test;
+import parser.Parser;
+import program.*;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class BytecodeTest {
+    @Test
+    public void testMult() {
+        Program program = new Parser("a := 2; b := 4; r := 0; while (a) { r := r + b ; a := a - 1 }").parse();
+        Map<String, Integer> valuation = Bytecode.lower(program).run();
+        assertEquals(8, valuation.get("r").intValue());
+        assertEquals(0, valuation.get("a").intValue());
+        assertEquals(4, valuation.get("b").intValue());
+    }
+
+    @Test
+    public void testToString() {
+        Program program = new Parser("while (a) { a := a - 1 }").parse();
+        assertEquals("0: JMP 13\n2: CHECK 0\n4: CONST 1 1\n7: SUB 0 0 1\n11: DEFINE 0\n13: CHECK 0\n15: JNZ 0 2\n18: HALT\n",
+                Bytecode.lower(program).toString());
+    }
+
+    @Test(expected = InterpreterException.class)
+    public void testUnknownIdentifier() {
+        Bytecode.lower(new Assignment(new Identifier("x"), new Identifier("y"))).run();
+    }
+
+    @Test
+    public void testConditionalAssignsOneCase() {
+        Program program = new Conditional(new Int(0),
+                new Assignment(new Identifier("x"), new Int(1)),
+                new Assignment(new Identifier("y"), new Int(2)));
+        Map<String, Integer> valuation = Bytecode.lower(program).run();
+        assertEquals(1, valuation.size());
+        assertEquals(2, valuation.get("y").intValue());
+    }
+
+    @Test
+    public void testRandomPrograms() {
+        RandomPrograms generator = new RandomPrograms(7);
+        for (int i = 0; i < 500; i++) {
+            Program program = generator.program();
+            String expected;
+            try {
+                expected = new Interpreter(program).getValuation().toString();
+            } catch (InterpreterException e) {
+                expected = e.getMessage();
+            }
+            String actual;
+            try {
+                actual = Bytecode.lower(program).run().toString();
+            } catch (InterpreterException e) {
+                actual = e.getMessage();
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testStepLimit() {
+        Program program = new Parser("a := 1 ; n := 0 ; while (a) { n := n + 1 }").parse();
+        Limits limits = Limits.steps(1000);
+        try {
+            Bytecode.lower(program).run(limits);
+            fail();
+        } catch (LimitExceededException e) {
+            assertEquals(1000, e.steps);
+            assertEquals(1000, e.valuation.get("n").intValue());
+        }
+    }
+
+    @Test(expected = LimitExceededException.class)
+    public void testTimeout() {
+        Program program = new Parser("a := 1 ; n := 0 ; while (a) { n := n + 1 }").parse();
+        Limits limits = Limits.timeout(50);
+        Bytecode.lower(program).run(limits);
+    }
+}